@@ -0,0 +1,194 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * login.js 와 같은 시나리오를 JDK HttpClient 로 실행하는 부하 생성기 (k6 를 설치할 수 없는 환경용)
+ * - login : PEAK_VUS/4 까지 30초 증가, 1분 유지, 10초 감소 (POST /api/login)
+ * - user  : PEAK_VUS 까지 30초 증가, 1분 유지, 10초 감소 (GET /api/user/get)
+ * - 각 VU 는 응답을 받자마자 다음 요청을 보냅니다. (k6 ramping-vus 와 같은 closed model, sleep 없음)
+ * - 결과는 k6 요약과 같은 항목(p(99), http_reqs, 503 비율)으로 출력합니다.
+ *
+ * 실행 (Java 11 이상, 서버는 login.js 설명과 같은 방법으로 띄움)
+ *   java loadtest/LoginLoad.java
+ *   BASE_URL=http://localhost:8080 PEAK_VUS=400 java loadtest/LoginLoad.java
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public class LoginLoad {
+
+    private static final String BASE_URL = System.getenv().getOrDefault("BASE_URL", "http://localhost:8080");
+    private static final int PEAK_VUS = Integer.parseInt(System.getenv().getOrDefault("PEAK_VUS", "400"));
+    private static final long RAMP_UP_MS = 30_000;
+    private static final long HOLD_MS = 60_000;
+    private static final long RAMP_DOWN_MS = 10_000;
+    private static final String LOGIN_BODY = "{\"username\":\"이순신\",\"password\":\"1234\"}";
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        HttpResponse<Void> setup = send(loginRequest());
+        if (setup.statusCode() != 201) {
+            throw new IllegalStateException("setup login 실패 : " + setup.statusCode());
+        }
+        String authorization = setup.headers().firstValue("Authorization").orElseThrow();
+        HttpRequest userRequest = HttpRequest.newBuilder(URI.create(BASE_URL + "/api/user/get"))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        Scenario login = new Scenario("login", Math.max(1, PEAK_VUS / 4), LoginLoad::loginRequest, 201, 503);
+        Scenario user = new Scenario("user", PEAK_VUS, () -> userRequest, 200);
+
+        long startedAt = System.currentTimeMillis();
+        List<Thread> threads = new ArrayList<>();
+        threads.addAll(login.start(startedAt));
+        threads.addAll(user.start(startedAt));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.currentTimeMillis() - startedAt) / 1000.0;
+
+        System.out.printf("BASE_URL=%s, PEAK_VUS=%d, duration=%.1fs%n", BASE_URL, PEAK_VUS, seconds);
+        login.report(seconds);
+        user.report(seconds);
+        long total = login.requests() + user.requests();
+        long unavailable = login.status(503) + user.status(503);
+        System.out.printf("http_reqs total : %d (%.1f/s), 503 : %d (%.2f%%)%n",
+                total, total / seconds, unavailable, total == 0 ? 0.0 : unavailable * 100.0 / total);
+    }
+
+    private static HttpRequest loginRequest() {
+        return HttpRequest.newBuilder(URI.create(BASE_URL + "/api/login"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(LOGIN_BODY, StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static HttpResponse<Void> send(HttpRequest request) throws Exception {
+        return CLIENT.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    /**
+     * 한 시나리오의 VU 들과 결과 (VU 별로 지연 시간을 모아 끝난 뒤 합침)
+     */
+    private static final class Scenario {
+        private final String name;
+        private final int vus;
+        private final RequestFactory requests;
+        private final int[] expectedStatuses;
+        private final List<long[]> durations = new ArrayList<>();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+
+        private Scenario(String name, int vus, RequestFactory requests, int... expectedStatuses) {
+            this.name = name;
+            this.vus = vus;
+            this.requests = requests;
+            this.expectedStatuses = expectedStatuses;
+        }
+
+        private List<Thread> start(long startedAt) {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < vus; i++) {
+                // i 번째 VU 는 증가 구간의 i/vus 시점에 시작하고, 감소 구간에서는 나중에 시작한 VU 부터 멈춥니다.
+                long from = startedAt + RAMP_UP_MS * i / vus;
+                long until = startedAt + RAMP_UP_MS + HOLD_MS + RAMP_DOWN_MS * (vus - i) / vus;
+                Thread thread = new Thread(() -> {
+                    long[] samples = run(from, until);
+                    synchronized (durations) {
+                        durations.add(samples);
+                    }
+                }, name + "-" + i);
+                thread.start();
+                threads.add(thread);
+            }
+            return threads;
+        }
+
+        private long[] run(long from, long until) {
+            long[] samples = new long[1024];
+            int count = 0;
+            try {
+                Thread.sleep(Math.max(0, from - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new long[0];
+            }
+            while (System.currentTimeMillis() < until) {
+                long begin = System.nanoTime();
+                try {
+                    int status = send(requests.create()).statusCode();
+                    statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                } catch (Exception e) {
+                    errors.increment();
+                    continue;
+                }
+                if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, count * 2);
+                }
+                samples[count++] = System.nanoTime() - begin;
+            }
+            return Arrays.copyOf(samples, count);
+        }
+
+        private long requests() {
+            return statuses.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        private long status(int status) {
+            LongAdder adder = statuses.get(status);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        private void report(double seconds) {
+            long[] all;
+            synchronized (durations) {
+                all = durations.stream().flatMapToLong(Arrays::stream).toArray();
+            }
+            Arrays.sort(all);
+            long requests = requests();
+            long unexpected = requests - Arrays.stream(expectedStatuses).mapToLong(this::status).sum();
+            System.out.printf("http_req_duration{name:%s} : avg=%.1fms p(50)=%.1fms p(95)=%.1fms p(99)=%.1fms max=%.1fms%n",
+                    name, average(all), percentile(all, 50), percentile(all, 95), percentile(all, 99),
+                    all.length == 0 ? 0.0 : all[all.length - 1] / 1e6);
+            System.out.printf("http_reqs{name:%s} : %d (%.1f/s), status=%s, 503=%.2f%%, unexpected=%d, errors=%d%n",
+                    name, requests, requests / seconds, new TreeMap<>(statuses),
+                    requests == 0 ? 0.0 : status(503) * 100.0 / requests, unexpected, errors.sum());
+        }
+
+        private static double average(long[] sorted) {
+            return sorted.length == 0 ? 0.0 : Arrays.stream(sorted).average().orElse(0) / 1e6;
+        }
+
+        private static double percentile(long[] sorted, int p) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest create();
+    }
+}
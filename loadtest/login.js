@@ -0,0 +1,95 @@
+// 로그인 + 인증 API 부하 테스트 (k6)
+// - 플랫폼 스레드 모드와 가상 스레드 모드의 동시 처리량, p99 지연 시간을 같은 조건에서 비교합니다.
+//
+// 1) 플랫폼 스레드 (Tomcat 스레드 풀, 기본 200)
+//      ./gradlew bootRun --args='--spring.profiles.active=local --login.rate-limit.enabled=false'
+//      k6 run --summary-export=build/k6-platform.json loadtest/login.js
+// 2) 가상 스레드
+//      ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=local,virtual --login.rate-limit.enabled=false'
+//      k6 run --summary-export=build/k6-virtual.json loadtest/login.js
+//
+// - 두 결과의 http_req_duration{name:login} / {name:user} 의 p(99), http_reqs, 503 비율을 비교합니다.
+// - local 프로필은 로그인에 쓰는 초기 사용자(이순신)를 등록합니다.
+// - 로그인 횟수 제한(429)이 결과를 가리지 않도록 두 경우 모두 --login.rate-limit.enabled=false 로 실행합니다.
+// - 스레드 풀 크기의 영향을 보려면 1) 에 --server.tomcat.threads.max=50 등을 더해 다시 측정합니다.
+// - 서버 쪽 수치: /actuator/metrics/jwt.filter, login.verification.wait, auth.login (ADMIN 토큰 필요)
+// - k6 를 설치할 수 없으면 같은 시나리오를 loadtest/LoginLoad.java 로 실행합니다. (java loadtest/LoginLoad.java)
+//
+// 측정 결과 (2026-10-18, PEAK_VUS=400, 모드별 2회, LoginLoad.java 로 측정)
+// - 환경: 1 vCPU / 6GB, Temurin 21.0.1, 부하 생성기와 서버가 같은 머신(같은 CPU)을 사용
+// - DB: MySQL 대신 H2 인메모리(MODE=MySQL), 나머지는 위 1), 2) 와 같은 옵션 (local 프로필, 횟수 제한 끔)
+//     --spring.datasource.url='jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1' --spring.datasource.driver-class-name=org.h2.Driver
+//
+//   | 모드      | login p(99) | login 요청 수(/s) | login 503 비율 | user p(99) | user 요청 수(/s) | 전체 http_reqs | 전체 503 비율 |
+//   |-----------|-------------|-------------------|----------------|------------|------------------|----------------|---------------|
+//   | 플랫폼 #1 | 16220ms     | 2047 (20.4)       | 59.4%          | 2977ms     | 32516 (324.4)    | 34563          | 3.52%         |
+//   | 플랫폼 #2 | 19139ms     | 1960 (19.6)       | 63.7%          | 3150ms     | 32352 (322.7)    | 34312          | 3.64%         |
+//   | 가상 #1   | 4544ms      | 3571 (35.7)       | 5.9%           | 3633ms     | 20909 (209.1)    | 24480          | 0.85%         |
+//   | 가상 #2   | 5472ms      | 2839 (28.4)       | 5.7%           | 3079ms     | 21536 (215.3)    | 24375          | 0.66%         |
+//
+// - 가상 스레드 모드는 로그인 성공 수가 약 4배(831/711 -> 3362/2677), 503 비율이 60% 대에서 6% 로 줄고 login p(99) 도 짧아졌지만,
+//   CPU 가 1개라 BCrypt 가 더 많이 처리된 만큼 user 요청 수가 약 34% 줄었고 user p(99) 는 비슷하거나 약간 길었습니다.
+// - 두 모드 모두 thresholds(user p(99)<50ms, login p(99)<1000ms)를 넘었습니다. 1 vCPU 에서 부하 생성기와 같이 돌린 결과이므로
+//   절대값보다 두 모드의 상대 비교로만 보고, 코어가 많은 머신에서 부하 생성기를 분리해 다시 측정해야 합니다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PEAK_VUS = Number(__ENV.PEAK_VUS || 400);
+
+export const options = {
+    scenarios: {
+        // 로그인: DB 조회(캐시 미스 시) + BCrypt
+        login: {
+            executor: 'ramping-vus',
+            exec: 'login',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: PEAK_VUS / 4 },
+                { duration: '1m', target: PEAK_VUS / 4 },
+                { duration: '10s', target: 0 },
+            ],
+        },
+        // 인증이 필요한 API: JwtFilter 검증만 (로그인이 몰려도 지연이 늘지 않아야 함)
+        user: {
+            executor: 'ramping-vus',
+            exec: 'user',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: PEAK_VUS },
+                { duration: '1m', target: PEAK_VUS },
+                { duration: '10s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        'http_req_duration{name:user}': ['p(99)<50'],
+        'http_req_duration{name:login}': ['p(99)<1000'],
+    },
+};
+
+function loginRequest() {
+    return http.post(`${BASE_URL}/api/login`, JSON.stringify({ username: '이순신', password: '1234' }), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'login' },
+    });
+}
+
+export function setup() {
+    const res = loginRequest();
+    check(res, { 'setup login 201': (r) => r.status === 201 });
+    return { authorization: res.headers['Authorization'] };
+}
+
+export function login() {
+    const res = loginRequest();
+    check(res, { 'login 201 or 503': (r) => r.status === 201 || r.status === 503 });
+}
+
+export function user(data) {
+    const res = http.get(`${BASE_URL}/api/user/get`, {
+        headers: { Authorization: data.authorization },
+        tags: { name: 'user' },
+    });
+    check(res, { 'user 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,124 @@
+#!/usr/bin/env bash
+# 시작 시간 비교 (time-to-first-request)
+# - 같은 jar, 같은 머신에서 4가지 모드의 시작 시간을 측정합니다.
+#     jvm     : 기본 실행
+#     cds     : 클래스 데이터 공유(CDS) 아카이브 사용 (-XX:SharedArchiveFile)
+#     aot     : Spring AOT 로 생성한 빈 정의 사용 (-Dspring.aot.enabled=true)
+#     aot-cds : AOT + CDS
+# - time-to-first-request : 프로세스 시작부터 /actuator/health 가 처음 200 을 응답할 때까지 (벽시계 기준)
+# - started-in            : 로그의 "Started ... in X seconds" (스프링 컨텍스트 기준)
+#
+# 실행 (DB 접속 정보와 JWT 키는 애플리케이션과 같은 환경 변수로 전달)
+#   DB_HOST=... DB_PORT=... DB_USER=... DB_PASSWORD=... JWT_SECRET_KEY=... loadtest/startup-report.sh
+#   RUNS=10 MODES="jvm aot" PROFILE=prod loadtest/startup-report.sh
+#   (스크립트 인자는 애플리케이션 인자로 전달, EXTRA_CLASSPATH 는 jar 에 없는 JDBC 드라이버 등을 클래스패스에 추가)
+#   EXTRA_CLASSPATH=h2.jar loadtest/startup-report.sh --spring.datasource.url='jdbc:h2:file:/tmp/startup;MODE=MySQL' \
+#       --spring.datasource.driver-class-name=org.h2.Driver --spring.datasource.username=sa --spring.datasource.password=
+#
+# - prod 프로필은 스키마를 만들지 않으므로, 측정 전에 ddl-auto=update 로 한 번 컨텍스트만 띄워 스키마를 준비합니다.
+# - CDS 학습 실행은 -Dspring.context.exit=onRefresh 로 컨텍스트 초기화 직후 종료합니다. (요청 처리, 초기 데이터 등록 없음)
+# - 결과: build/startup/report.md (측정한 결과는 loadtest/startup-report.md 에 보관)
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+PORT=${PORT:-8080}
+PROFILE=${PROFILE:-prod}
+MODES=${MODES:-"jvm cds aot aot-cds"}
+WORK=build/startup
+APP_ARGS=(--spring.profiles.active="$PROFILE" --server.port="$PORT" "$@")
+
+if [[ -z "${SKIP_BUILD:-}" ]]; then
+    ./gradlew -q bootJar -PaotProfiles="$PROFILE"
+fi
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)
+
+# CDS 는 압축된 fat jar 안의 클래스를 아카이브하지 못하므로, 풀어 놓은 jar 로 실행합니다.
+rm -rf "$WORK"
+mkdir -p "$WORK"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK/app" > /dev/null
+APP="$WORK/app/$(basename "$JAR")"
+
+# 애플리케이션 실행 명령을 CMD 에 만듭니다. (인자: JVM 옵션, 애플리케이션 인자는 CMD 뒤에 더 붙일 수 있음)
+# - CDS 학습 실행과 측정 실행의 클래스패스가 같아야 아카이브를 사용합니다.
+command_for() {
+    if [[ -n "${EXTRA_CLASSPATH:-}" ]]; then
+        CMD=(java "$@" -cp "$APP:$EXTRA_CLASSPATH"
+            "$(unzip -p "$APP" META-INF/MANIFEST.MF | sed -n 's/^Main-Class: *//p' | tr -d '\r')" "${APP_ARGS[@]}")
+    else
+        CMD=(java "$@" -jar "$APP" "${APP_ARGS[@]}")
+    fi
+}
+
+echo "스키마 준비"
+command_for -Dspring.context.exit=onRefresh
+"${CMD[@]}" --spring.jpa.hibernate.ddl-auto=update > "$WORK/schema.log" 2>&1
+
+jvm_opts() {
+    case "$1" in
+        jvm) ;;
+        cds) echo "-XX:SharedArchiveFile=$WORK/jvm.jsa" ;;
+        aot) echo "-Dspring.aot.enabled=true" ;;
+        aot-cds) echo "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$WORK/aot.jsa" ;;
+    esac
+}
+
+for mode in $MODES; do
+    case "$mode" in
+        cds)
+            echo "CDS 학습 실행 (jvm)"
+            command_for -XX:ArchiveClassesAtExit="$WORK/jvm.jsa" -Dspring.context.exit=onRefresh
+            "${CMD[@]}" > "$WORK/train-jvm.log" 2>&1 ;;
+        aot-cds)
+            echo "CDS 학습 실행 (aot)"
+            command_for -XX:ArchiveClassesAtExit="$WORK/aot.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh
+            "${CMD[@]}" > "$WORK/train-aot.log" 2>&1 ;;
+    esac
+done
+
+# 정렬된 숫자 목록의 중앙값
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+measure() {
+    local mode=$1 run=$2 log="$WORK/$1-$2.log"
+    local start end pid
+    start=$(date +%s%N)
+    # shellcheck disable=SC2046
+    command_for $(jvm_opts "$mode")
+    "${CMD[@]}" > "$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "http://localhost:$PORT/actuator/health"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "$mode #$run 실행 실패 ($log)" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    end=$(date +%s%N)
+    kill "$pid"
+    wait "$pid" || true
+    echo "$(( (end - start) / 1000000 )) $(grep -o 'Started [A-Za-z]* in [0-9.]* seconds' "$log" | awk '{ print $4 * 1000 }')"
+}
+
+{
+    echo "| mode | time-to-first-request p50 (ms) | min | max | started-in p50 (ms) |"
+    echo "|------|------:|----:|----:|------:|"
+} > "$WORK/report.md"
+
+for mode in $MODES; do
+    : > "$WORK/$mode.txt"
+    for run in $(seq 1 "$RUNS"); do
+        measure "$mode" "$run" >> "$WORK/$mode.txt"
+    done
+    ttfr=$(cut -d' ' -f1 "$WORK/$mode.txt")
+    started=$(cut -d' ' -f2 "$WORK/$mode.txt")
+    echo "| $mode | $(median <<< "$ttfr") | $(sort -n <<< "$ttfr" | head -n 1) | $(sort -n <<< "$ttfr" | tail -n 1) | $(median <<< "$started") |" \
+        >> "$WORK/report.md"
+done
+
+echo
+echo "$(java -version 2>&1 | head -n 1), runs=$RUNS, profile=$PROFILE" >> "$WORK/report.md"
+cat "$WORK/report.md"
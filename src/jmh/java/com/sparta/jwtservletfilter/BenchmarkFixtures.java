@@ -0,0 +1,115 @@
+package com.sparta.jwtservletfilter;
+
+import com.sparta.jwtservletfilter.filter.RoutePolicyRegistry;
+import com.sparta.jwtservletfilter.init.InitData;
+import com.sparta.jwtservletfilter.util.JwtUtil;
+import com.sparta.jwtservletfilter.util.InMemoryRevocationStore;
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+import com.sparta.jwtservletfilter.util.TokenRevocationList;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 벤치마크 공통 픽스처
+ * - 대부분은 스프링 컨텍스트 없이 빈을 직접 생성/초기화합니다.
+ * - DB 가 필요한 벤치마크는 H2 인메모리 DB 로 애플리케이션 컨텍스트를 띄웁니다. (웹 서버 없음)
+ */
+public final class BenchmarkFixtures {
+
+    // application.properties 의 jwt.route.rules 와 같은 규칙
+    public static final String ROUTE_RULES = "/api/login=PUBLIC,/api/token/refresh=PUBLIC,/api/logout=AUTHENTICATED,/api/admin/**=ADMIN,/api/user/**=USER,/actuator/health=PUBLIC,/actuator/**=ADMIN";
+    // 벤치마크 전용 HS256 비밀 키 (Base64, 32바이트)
+    public static final String SECRET_KEY = "64VINcdUYUYwbnBLL1eitE+blNL+5cGOyk8V/Jg53nU=";
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 벤치마크용 JwtUtil 을 생성합니다.
+     * @return 초기화된 JwtUtil
+     */
+    public static JwtUtil jwtUtil() {
+        return jwtUtil(false, false);
+    }
+
+    /**
+     * 벤치마크용 JwtUtil 을 생성합니다.
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     * @param fastPathEnabled HS256 고속 검증기 사용 여부
+     * @return 초기화된 JwtUtil
+     */
+    public static JwtUtil jwtUtil(boolean cacheEnabled, boolean fastPathEnabled) {
+        return jwtUtil(cacheEnabled, fastPathEnabled, null);
+    }
+
+    /**
+     * 키 묶음 파일을 사용하는 벤치마크용 JwtUtil 을 생성합니다.
+     * @param cacheEnabled 검증된 토큰 캐시 사용 여부
+     * @param fastPathEnabled HS256 고속 검증기 사용 여부
+     * @param keyRingLocation 키 묶음 파일 경로 (null 이면 SECRET_KEY 하나만 사용)
+     * @return 초기화된 JwtUtil
+     */
+    public static JwtUtil jwtUtil(boolean cacheEnabled, boolean fastPathEnabled, String keyRingLocation) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "keyRingLocation", keyRingLocation);
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "fastPathEnabled", fastPathEnabled);
+        ReflectionTestUtils.setField(jwtUtil, "cacheEnabled", cacheEnabled);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 10_000);
+        ReflectionTestUtils.setField(jwtUtil, "cacheEvictionPolicy", "EARLIEST_EXPIRY");
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    /**
+     * 벤치마크용 경로 접근 정책 저장소를 생성합니다.
+     * @return 설정 규칙만 등록된 저장소
+     */
+    public static RoutePolicyRegistry routePolicyRegistry() {
+        return new RoutePolicyRegistry(ROUTE_RULES, RoleHierarchy.none());
+    }
+
+    /**
+     * 벤치마크용 폐기 목록을 생성합니다. (프로세스 내부 저장소, 기본 설정값)
+     * @return 비어 있는 폐기 목록
+     */
+    public static TokenRevocationList tokenRevocationList() {
+        return new TokenRevocationList(new InMemoryRevocationStore(), 100_000, 0.01, System::currentTimeMillis);
+    }
+
+    /**
+     * H2 인메모리 DB(MySQL 모드)로 애플리케이션 컨텍스트를 띄웁니다.
+     * - InitData 가 기본 사용자(홍길동, 이순신, 신시임당)를 등록하며, 등록이 끝날 때까지 기다린 뒤 반환합니다.
+     * - SQL 로그는 측정에 영향을 주지 않도록 끕니다.
+     * @return 애플리케이션 컨텍스트 (벤치마크 종료 시 close 필요)
+     */
+    public static ConfigurableApplicationContext h2Application() {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JwtServletFilterApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "decorator.datasource.p6spy.enable-logging=false",
+                        "user.credential-cache.enabled=false",
+                        "user.import.init-enabled=true",
+                        "jwt.secret.key=" + SECRET_KEY)
+                .run();
+        context.getBean(InitData.class).seeded().join();
+        return context;
+    }
+
+    /**
+     * "Bearer " 접두사를 제거한 토큰 값을 반환합니다.
+     * @param bearerToken 접두사가 포함된 토큰
+     * @return 토큰 값
+     */
+    public static String stripBearer(String bearerToken) {
+        return bearerToken.substring(JwtUtil.BEARER_PREFIX.length());
+    }
+}
@@ -0,0 +1,63 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.util.AuthMetrics;
+import com.sparta.jwtservletfilter.util.JwtUtil;
+import com.sparta.jwtservletfilter.util.TokenRevocationList;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 서블릿/WebFlux 필터 벤치마크가 공유하는 인증 시나리오
+ * - 두 어댑터가 같은 JwtAuthenticator 설정과 같은 요청(경로, 토큰)으로 측정되도록 한 곳에서 만듭니다.
+ */
+@State(Scope.Benchmark)
+public class AuthScenario {
+
+    /**
+     * 측정 시나리오
+     * - USER_ALLOWED: USER 토큰으로 /api/user 호출 (200)
+     * - ADMIN_FORBIDDEN: USER 토큰으로 /api/admin 호출 (403)
+     * - INVALID_TOKEN: 서명이 틀린 토큰 (401)
+     * - REVOKED: 로그아웃으로 폐기된 토큰 (401)
+     * - PUBLIC: 인증이 필요 없는 /api/login
+     */
+    @Param({"USER_ALLOWED", "ADMIN_FORBIDDEN", "INVALID_TOKEN", "REVOKED", "PUBLIC"})
+    private String scenario;
+
+    JwtAuthenticator authenticator;
+    String requestURI;
+    String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        TokenRevocationList tokenRevocationList = BenchmarkFixtures.tokenRevocationList();
+        authenticator = new JwtAuthenticator(jwtUtil, BenchmarkFixtures.routePolicyRegistry(), tokenRevocationList,
+                AuthMetrics.noop());
+        String bearer = jwtUtil.generateToken("이순신", UserRoleEnum.USER);
+        switch (scenario) {
+            case "USER_ALLOWED" -> {
+                requestURI = "/api/user/get";
+                authorization = bearer;
+            }
+            case "ADMIN_FORBIDDEN" -> {
+                requestURI = "/api/admin/get";
+                authorization = bearer;
+            }
+            case "INVALID_TOKEN" -> {
+                requestURI = "/api/user/get";
+                authorization = bearer.substring(0, bearer.length() - 10) + "AAAAAAAAAA";
+            }
+            case "REVOKED" -> {
+                requestURI = "/api/user/get";
+                authorization = bearer;
+                tokenRevocationList.revoke(jwtUtil.parsePrincipal(BenchmarkFixtures.stripBearer(bearer)));
+            }
+            default -> {
+                requestURI = "/api/login";
+                authorization = null;
+            }
+        }
+    }
+}
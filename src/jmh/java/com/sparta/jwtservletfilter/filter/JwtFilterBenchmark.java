@@ -0,0 +1,55 @@
+package com.sparta.jwtservletfilter.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * mock 서블릿 객체로 JwtFilter.doFilter 전체를 측정합니다.
+ * - 시나리오는 AuthScenario 에서 만들며, ReactiveJwtFilterBenchmark 와 같습니다.
+ * - 응답 객체는 한 번 커밋되면 재사용할 수 없으므로, 호출마다 새로 생성합니다. (모든 시나리오에 동일하게 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtFilterBenchmark {
+
+    private JwtFilter jwtFilter;
+
+    @Setup
+    public void setUp(AuthScenario scenario) {
+        jwtFilter = new JwtFilter(scenario.authenticator);
+    }
+
+    /**
+     * 스레드별 요청 객체와 체인
+     */
+    @State(Scope.Thread)
+    public static class Exchange {
+        private MockHttpServletRequest request;
+        private FilterChain chain;
+
+        @Setup
+        public void setUp(AuthScenario scenario) {
+            request = new MockHttpServletRequest("GET", scenario.requestURI);
+            request.setServletPath(scenario.requestURI);
+            if (scenario.authorization != null) {
+                request.addHeader("Authorization", scenario.authorization);
+            }
+            chain = (req, res) -> {
+            };
+        }
+    }
+
+    @Benchmark
+    public int doFilter(Exchange exchange) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        jwtFilter.doFilter(exchange.request, response, exchange.chain);
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,43 @@
+package com.sparta.jwtservletfilter.filter;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * mock 교환 객체로 ReactiveJwtFilter.filter 전체를 측정합니다.
+ * - 시나리오는 AuthScenario 에서 만들며, JwtFilterBenchmark 와 같습니다. (두 어댑터의 오버헤드 비교)
+ * - 교환 객체는 응답 상태를 가지므로 호출마다 새로 생성합니다. (서블릿 벤치마크의 응답 객체 생성과 대응)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReactiveJwtFilterBenchmark {
+
+    private static final WebFilterChain CHAIN = exchange -> Mono.empty();
+
+    private ReactiveJwtFilter filter;
+    private MockServerHttpRequest request;
+
+    @Setup
+    public void setUp(AuthScenario scenario) {
+        filter = new ReactiveJwtFilter(scenario.authenticator);
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get(scenario.requestURI);
+        if (scenario.authorization != null) {
+            builder.header("Authorization", scenario.authorization);
+        }
+        request = builder.build();
+    }
+
+    @Benchmark
+    public HttpStatusCode filter() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, CHAIN).block();
+        return exchange.getResponse().getStatusCode();
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.jwtservletfilter.repository;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import com.sparta.jwtservletfilter.dto.UserCredential;
+import com.sparta.jwtservletfilter.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 시 사용자 조회 방식을 비교합니다.
+ * - 엔티티 조회(findByUsername) : 영속성 컨텍스트 등록, 스냅샷(변경 감지) 생성, email 컬럼까지 읽음
+ * - DTO 조회(findCredentialByUsername) : 필요한 컬럼만 읽고, 읽기 전용 트랜잭션 + flush 생략
+ * - 실제 DB 왕복 시간을 배제하기 위해 H2 인메모리 DB 를 사용하므로, 차이는 JPA/Hibernate 처리 비용입니다.
+ * - gc 프로파일러의 gc.alloc.rate.norm 으로 조회당 할당량을 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserRepositoryBenchmark {
+
+    private static final String USERNAME = "이순신";
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFixtures.h2Application();
+        userRepository = context.getBean(UserRepository.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<User> entityLoad() {
+        return userRepository.findByUsername(USERNAME);
+    }
+
+    @Benchmark
+    public Optional<UserCredential> credentialProjection() {
+        return userRepository.findCredentialByUsername(USERNAME);
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jjwt 검증 경로와 HS256 고속 검증 경로를 비교합니다.
+ * - keyRing=true 이면 kid 헤더가 있는 토큰(키 묶음 파일 사용)으로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class Hs256FastVerifierBenchmark {
+
+    @Param({"false", "true"})
+    private boolean keyRing;
+
+    private JwtUtil jjwtPath;
+    private JwtUtil fastPath;
+    private String token;
+    private Path keyRingFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        String location = null;
+        if (keyRing) {
+            keyRingFile = Files.createTempFile("key-ring", ".properties");
+            Files.writeString(keyRingFile, "active=bench\nkey.bench=" + BenchmarkFixtures.SECRET_KEY + "\n");
+            location = keyRingFile.toString();
+        }
+        jjwtPath = BenchmarkFixtures.jwtUtil(false, false, location);
+        fastPath = BenchmarkFixtures.jwtUtil(false, true, location);
+        token = BenchmarkFixtures.stripBearer(jjwtPath.generateToken("이순신", UserRoleEnum.USER));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        jjwtPath.destroy();
+        fastPath.destroy();
+        if (keyRingFile != null) {
+            Files.deleteIfExists(keyRingFile);
+        }
+    }
+
+    @Benchmark
+    public JwtPrincipal jjwt() {
+        return jjwtPath.parsePrincipal(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal fastPath() {
+        return fastPath.parsePrincipal(token);
+    }
+}
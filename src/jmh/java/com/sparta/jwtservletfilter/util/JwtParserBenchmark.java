@@ -0,0 +1,68 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.Key;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 파서를 생성하는 방식과, 한 번 생성한 파서를 재사용하는 방식을 비교합니다.
+ * - parserPerCall 과 sharedParser 는 같은 작업(서명 검증 + Claims 반환)만 하며, 파서 생성 여부만 다릅니다.
+ * - cachedParser 는 JwtUtil 전체 경로(사전 검사, 캐시, 메트릭 포함)의 캐시 적중 시간으로, 위 두 측정과 직접 비교하지 않습니다.
+ * - ./gradlew jmh 실행 시 gc 프로파일러로 연산당 할당량도 함께 측정됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtParserBenchmark {
+
+    private JwtUtil cachedJwtUtil;
+    private Key key;
+    private JwtParser jwtParser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        cachedJwtUtil = BenchmarkFixtures.jwtUtil(true, false);
+        key = Keys.hmacShaKeyFor(Base64.getDecoder().decode(BenchmarkFixtures.SECRET_KEY));
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        token = BenchmarkFixtures.stripBearer(jwtUtil.generateToken("이순신", UserRoleEnum.USER));
+    }
+
+    /**
+     * 기존 방식: 호출마다 파서 빌더로 새 파서를 생성합니다.
+     */
+    @Benchmark
+    public Claims parserPerCall() {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    /**
+     * 개선 방식: 초기화 시점에 한 번 만든 파서를 재사용합니다. (JwtUtil 과 같은 방식)
+     */
+    @Benchmark
+    public Claims sharedParser() {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 검증된 토큰 캐시 적중: 서명 검증과 JSON 파싱을 생략합니다.
+     */
+    @Benchmark
+    public JwtPrincipal cachedParser() {
+        return cachedJwtUtil.parsePrincipal(token);
+    }
+}
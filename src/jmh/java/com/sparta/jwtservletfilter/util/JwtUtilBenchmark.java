@@ -0,0 +1,67 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.dto.TokenValidationResult;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 의 토큰 발급/검증 경로를 측정합니다.
+ * - validateExpired / validateJunk : 사전 검사(TokenPrecheck)로 서명 검증 없이 거부되는 토큰
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String expiredToken;
+    private String junkToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        token = BenchmarkFixtures.stripBearer(jwtUtil.generateToken("이순신", UserRoleEnum.USER));
+        expiredToken = Jwts.builder()
+                .setSubject("이순신")
+                .claim("auth", UserRoleEnum.USER.mask())
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(BenchmarkFixtures.SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+        junkToken = token.substring(0, token.lastIndexOf('.'));
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("이순신", UserRoleEnum.USER);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal parsePrincipal() {
+        return jwtUtil.parsePrincipal(token);
+    }
+
+    @Benchmark
+    public TokenValidationResult validateExpired() {
+        return jwtUtil.validate(expiredToken);
+    }
+
+    @Benchmark
+    public TokenValidationResult validateJunk() {
+        return jwtUtil.validate(junkToken);
+    }
+}
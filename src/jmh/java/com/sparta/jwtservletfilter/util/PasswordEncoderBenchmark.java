@@ -0,0 +1,52 @@
+package com.sparta.jwtservletfilter.util;
+
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 비용(cost)별 PasswordEncoder 의 해시/검증 시간을 측정합니다.
+ * - 비용이 1 오를 때마다 시간이 약 2배가 되므로, 연산당 평균 시간으로 측정합니다.
+ * - password.bcrypt.cost / calibration-budget-ms 를 정할 때 참고합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "1234";
+
+    @Param({"4", "6", "8", "10", "12"})
+    private int cost;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    private String outdatedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new PasswordEncoder(cost);
+        // matches 는 저장된 해시의 비용으로 검증하므로, 비용별 해시를 미리 만들어 둡니다.
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+        outdatedPassword = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, RAW_PASSWORD.toCharArray());
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    /**
+     * 로그인 성공 시마다 호출되는 재암호화 판단 비용 (BCrypt 를 실행하지 않아야 합니다)
+     */
+    @Benchmark
+    public boolean needsRehash() {
+        return passwordEncoder.needsRehash(outdatedPassword);
+    }
+}
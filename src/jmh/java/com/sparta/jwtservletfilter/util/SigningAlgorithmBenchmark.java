@@ -0,0 +1,147 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 알고리즘별 발급(sign)/검증(verify) 처리량을 비교합니다.
+ * - HS256, ES256 은 jjwt 로 토큰 전체를 발급/검증합니다.
+ * - jjwt 0.11 은 EdDSA 를 지원하지 않으므로, Ed25519 는 같은 크기의 "header.payload" 에 대한 JCA 서명/검증만 측정합니다.
+ *   (JSON 직렬화/Base64 비용이 빠진 하한값이므로, 비교 시 HS256/ES256 의 rawSign/rawVerify 와 함께 봅니다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"HS256", "ES256", "Ed25519"})
+    private String algorithm;
+
+    private Key signingKey;
+    private Key verificationKey;
+    private SignatureAlgorithm jjwtAlgorithm;
+    private JwtParser parser;
+    private String token;
+
+    // JCA 원시 서명 비교용
+    private String jcaAlgorithm;
+    private byte[] signingInput;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        switch (algorithm) {
+            case "HS256" -> {
+                signingKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(BenchmarkFixtures.SECRET_KEY));
+                verificationKey = signingKey;
+                jjwtAlgorithm = SignatureAlgorithm.HS256;
+                jcaAlgorithm = "HmacSHA256";
+            }
+            case "ES256" -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                KeyPair pair = generator.generateKeyPair();
+                signingKey = pair.getPrivate();
+                verificationKey = pair.getPublic();
+                jjwtAlgorithm = SignatureAlgorithm.ES256;
+                jcaAlgorithm = "SHA256withECDSA";
+            }
+            default -> {
+                KeyPair pair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+                signingKey = pair.getPrivate();
+                verificationKey = pair.getPublic();
+                jcaAlgorithm = "Ed25519";
+            }
+        }
+        if (jjwtAlgorithm != null) {
+            parser = Jwts.parserBuilder().setSigningKey(verificationKey).build();
+            token = (String) sign();
+            signingInput = token.substring(0, token.lastIndexOf('.')).getBytes(StandardCharsets.US_ASCII);
+        } else {
+            // HS256 토큰과 같은 크기의 서명 입력
+            signingInput = ("eyJhbGciOiJFZERTQSJ9." + Base64.getUrlEncoder().withoutPadding().encodeToString(
+                    "{\"sub\":\"이순신\",\"jti\":\"00000000-0000-0000-0000-000000000000\",\"auth\":1,\"exp\":1724755482,\"iat\":1724751882}"
+                            .getBytes(StandardCharsets.UTF_8))).getBytes(StandardCharsets.US_ASCII);
+        }
+        signature = rawSign();
+    }
+
+    /**
+     * jjwt 로 토큰을 발급합니다. (Ed25519 는 rawSign 과 같음)
+     */
+    @Benchmark
+    public Object sign() throws GeneralSecurityException {
+        if (jjwtAlgorithm == null) {
+            return rawSign();
+        }
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("이순신")
+                .setId("00000000-0000-0000-0000-000000000000")
+                .claim("auth", 1)
+                .setExpiration(new Date(now.getTime() + 3_600_000))
+                .setIssuedAt(now)
+                .signWith(signingKey, jjwtAlgorithm)
+                .compact();
+    }
+
+    /**
+     * jjwt 로 토큰을 검증합니다. (Ed25519 는 rawVerify 와 같음)
+     */
+    @Benchmark
+    public Object verify() throws GeneralSecurityException {
+        if (jjwtAlgorithm == null) {
+            return rawVerify();
+        }
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * 서명 연산만 측정합니다. (JCA)
+     */
+    @Benchmark
+    public byte[] rawSign() throws GeneralSecurityException {
+        if ("HmacSHA256".equals(jcaAlgorithm)) {
+            Mac mac = Mac.getInstance(jcaAlgorithm);
+            mac.init(signingKey);
+            return mac.doFinal(signingInput);
+        }
+        Signature signer = Signature.getInstance(jcaAlgorithm);
+        signer.initSign((PrivateKey) signingKey);
+        signer.update(signingInput);
+        return signer.sign();
+    }
+
+    /**
+     * 검증 연산만 측정합니다. (JCA)
+     */
+    @Benchmark
+    public boolean rawVerify() throws GeneralSecurityException {
+        if ("HmacSHA256".equals(jcaAlgorithm)) {
+            return MessageDigest.isEqual(rawSign(), signature);
+        }
+        Signature verifier = Signature.getInstance(jcaAlgorithm);
+        verifier.initVerify((PublicKey) verificationKey);
+        verifier.update(signingInput);
+        return verifier.verify(signature);
+    }
+}
@@ -0,0 +1,48 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.BenchmarkFixtures;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 폐기 여부 조회 비용을 측정합니다.
+ * - notRevoked: 대부분의 요청 (블룸 필터에서 끝남)
+ * - revoked: 폐기된 토큰 (블룸 필터 + 맵 조회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenRevocationListBenchmark {
+
+    @Param({"0", "10000", "100000"})
+    private int revokedCount;
+
+    private TokenRevocationList tokenRevocationList;
+    private String validTokenId;
+    private String revokedTokenId;
+
+    @Setup
+    public void setUp() {
+        tokenRevocationList = BenchmarkFixtures.tokenRevocationList();
+        Instant expiration = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < revokedCount; i++) {
+            tokenRevocationList.revoke(UUID.randomUUID().toString(), expiration);
+        }
+        revokedTokenId = UUID.randomUUID().toString();
+        tokenRevocationList.revoke(revokedTokenId, expiration);
+        validTokenId = UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public boolean notRevoked() {
+        return tokenRevocationList.isRevoked(validTokenId);
+    }
+
+    @Benchmark
+    public boolean revoked() {
+        return tokenRevocationList.isRevoked(revokedTokenId);
+    }
+}
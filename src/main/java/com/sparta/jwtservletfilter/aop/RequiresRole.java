@@ -1,5 +1,7 @@
 package com.sparta.jwtservletfilter.aop;
 
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -8,5 +10,5 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RequiresRole {
-    String value();  // 요구되는 역할을 나타냄
+    UserRoleEnum[] value();  // 요구되는 역할을 나타냄 (여러 개면 하나만 가져도 통과)
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package com.sparta.jwtservletfilter.aop;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 핸들러 메서드 호출 전 @RequiresRole 권한 체크
+ * - 애플리케이션 시작 시 핸들러 메서드별 허용 역할 비트마스크(역할 계층 반영)를 한 번만 계산하여 조회 테이블에 저장합니다.
+ * - 요청마다 프록시/리플렉션 없이, JwtFilter 가 검증해 둔 주체 정보와 비교만 합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleCheckInterceptor implements HandlerInterceptor {
+
+    // 역할 계층 (허용 비트마스크 계산에 사용)
+    private final RoleHierarchy roleHierarchy;
+    // 핸들러 메서드 -> 허용 역할 비트마스크
+    private volatile Map<Method, Integer> allowedMasks = Map.of();
+
+    /**
+     * 핸들러 매핑이 모두 등록된 뒤, @RequiresRole 이 붙은 핸들러 메서드의 필요한 역할을 계산합니다.
+     * @param event 컨텍스트 갱신 이벤트
+     */
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        Map<String, RequestMappingHandlerMapping> mappings =
+                event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class);
+        if (mappings.isEmpty()) {
+            // 핸들러 매핑이 없는 (자식) 컨텍스트의 이벤트는 무시합니다.
+            return;
+        }
+        Map<Method, Integer> masks = new HashMap<>();
+        mappings.values().forEach(mapping -> mapping.getHandlerMethods().values().forEach(handlerMethod -> {
+            RequiresRole requiresRole = handlerMethod.getMethodAnnotation(RequiresRole.class);
+            if (requiresRole != null) {
+                masks.put(handlerMethod.getMethod(), roleHierarchy.allowedMask(requiresRole.value()));
+            }
+        }));
+        allowedMasks = Map.copyOf(masks);
+    }
+
+    /**
+     * 핸들러 메서드 실행 전에 권한 체크를 수행합니다.
+     * @return 항상 true (권한이 없으면 예외를 던짐)
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        Integer allowedMask = allowedMasks.get(handlerMethod.getMethod());
+        if (allowedMask == null) {
+            // @RequiresRole 이 없는 핸들러는 검사하지 않음
+            return true;
+        }
+
+        // JwtFilter 가 이미 검증해 둔 주체 정보를 사용합니다. (토큰을 다시 파싱하지 않음)
+        JwtPrincipal principal = (JwtPrincipal) request.getAttribute(JwtPrincipal.ATTRIBUTE);
+        if (principal == null) {
+            // 검증된 주체 정보가 없으면, 권한이 없다는 예외를 던짐
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "헤더에 정보가 없거나 유효하지 않습니다.");
+        }
+
+        // 주체 정보에 필요한 권한이 있는지 확인 (비트 연산)
+        if (!principal.hasAnyRole(allowedMask)) {
+            // 필요한 역할이 없는 경우, 권한이 없다는 예외를 던짐
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 권한은 유효하지 않습니다");
+        }
+        return true;
+    }
+}
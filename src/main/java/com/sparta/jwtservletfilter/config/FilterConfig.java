@@ -1,7 +1,8 @@
 package com.sparta.jwtservletfilter.config;
 
+import com.sparta.jwtservletfilter.filter.JwtAuthenticator;
 import com.sparta.jwtservletfilter.filter.JwtFilter;
-import com.sparta.jwtservletfilter.util.JwtUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,21 +15,22 @@ import org.springframework.context.annotation.Configuration;
  *  * @since 1.0
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class FilterConfig {
 
     /**
      * JWT 필터를 등록하고 필터 설정을 구성하는 빈을 생성합니다.
      *
-     * @param jwtUtil JWT 유틸리티 클래스를 주입받아 필터에 전달합니다.
+     * @param jwtAuthenticator 인증/인가 판단(토큰 검증, 경로 정책, 폐기 목록)을 주입받아 필터에 전달합니다.
      * @return 필터 등록 및 설정을 위한 FilterRegistrationBean 객체
      */
     @Bean
-    public FilterRegistrationBean<JwtFilter> jwtFilter(JwtUtil jwtUtil) {
+    public FilterRegistrationBean<JwtFilter> jwtFilter(JwtAuthenticator jwtAuthenticator) {
         // FilterRegistrationBean을 생성하여 필터 등록을 위한 설정을 구성합니다.
         FilterRegistrationBean<JwtFilter> registrationBean = new FilterRegistrationBean<>();
 
-        // JwtFilter를 생성하여 jwtUtil을 주입합니다.
-        registrationBean.setFilter(new JwtFilter(jwtUtil));
+        // JwtFilter를 생성하여 인증/인가 판단을 주입합니다.
+        registrationBean.setFilter(new JwtFilter(jwtAuthenticator));
 
         // 필터가 적용될 URL 패턴을 지정합니다.
         // 현재는 모든 URL 패턴에 대해 필터를 적용합니다.
@@ -19,20 +19,28 @@ public class P6SpyFomatter implements MessageFormattingStrategy {
 
    @Override
    public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
-       sql = formatSql(category, sql);
-       return String.format("[%s] | %d ms | %s", category, elapsed, formatSql(category, sql));
+       // SQL 은 한 번만 정렬하고, String.format 대신 단순 연결로 메시지를 만듭니다.
+       return "[" + category + "] | " + elapsed + " ms | " + formatSql(category, sql);
    }
 
    private String formatSql(String category, String sql) {
        if (sql != null && !sql.trim().isEmpty() && Category.STATEMENT.getName().equals(category)) {
-           String trimmedSQL = sql.trim().toLowerCase(Locale.ROOT);
-           if (trimmedSQL.startsWith("create") || trimmedSQL.startsWith("alter") || trimmedSQL.startsWith("comment") || trimmedSQL.startsWith("drop") || trimmedSQL.startsWith("truncate")) {
-               sql = FormatStyle.DDL.getFormatter().format(sql);
-           } else {
-               sql = FormatStyle.BASIC.getFormatter().format(sql);
-           }
-           return sql;
+           return prettyPrint(sql);
        }
        return sql;
    }
-}
\ No newline at end of file
+
+   /**
+    * SQL 을 여러 줄로 정렬합니다. (DDL 과 그 외 구문의 형식이 다름)
+    * - 비용이 큰 작업이므로, 모든 구문이 아닌 로그로 남길 구문에만 사용합니다.
+    * @param sql 정렬할 SQL
+    * @return 정렬된 SQL
+    */
+   public static String prettyPrint(String sql) {
+       String trimmedSQL = sql.trim().toLowerCase(Locale.ROOT);
+       if (trimmedSQL.startsWith("create") || trimmedSQL.startsWith("alter") || trimmedSQL.startsWith("comment") || trimmedSQL.startsWith("drop") || trimmedSQL.startsWith("truncate")) {
+           return FormatStyle.DDL.getFormatter().format(sql);
+       }
+       return FormatStyle.BASIC.getFormatter().format(sql);
+   }
+}
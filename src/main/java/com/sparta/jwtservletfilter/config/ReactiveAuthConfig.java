@@ -0,0 +1,57 @@
+package com.sparta.jwtservletfilter.config;
+
+import com.sparta.jwtservletfilter.controller.ReactiveLoginHandler;
+import com.sparta.jwtservletfilter.filter.JwtAuthenticator;
+import com.sparta.jwtservletfilter.filter.ReactiveJwtFilter;
+import com.sparta.jwtservletfilter.service.LoginRateLimiter;
+import com.sparta.jwtservletfilter.service.UserService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.WebFilter;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * - WebFlux(리액티브) 애플리케이션의 인증 구성을 설정하는 클래스입니다.
+ * - 서블릿 애플리케이션의 FilterConfig 와 같은 JwtAuthenticator 를 ReactiveJwtFilter 로 등록하고,
+ *   /api/login 을 논블로킹 핸들러(ReactiveLoginHandler)로 연결합니다.
+ * - spring-webflux 는 compileOnly 의존성이므로, 게이트웨이 등 WebFlux 를 포함한 애플리케이션에서만 활성화됩니다.
+ *  * @author JaeHwan Kim
+ *  * @version 1.0
+ *  * @since 1.0
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveAuthConfig {
+
+    /**
+     * JWT 인증 WebFilter 를 다른 WebFilter 보다 먼저 실행되도록 등록합니다.
+     * @param jwtAuthenticator 인증/인가 판단
+     * @return WebFilter
+     */
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public WebFilter reactiveJwtFilter(JwtAuthenticator jwtAuthenticator) {
+        return new ReactiveJwtFilter(jwtAuthenticator);
+    }
+
+    /**
+     * 논블로킹 로그인 엔드포인트를 등록합니다.
+     * - 사용자 조회(블로킹 JPA)는 Reactor 의 boundedElastic 스케줄러(스레드 수, 대기열 제한)에서 실행합니다.
+     * @param userService 사용자 서비스
+     * @param loginRateLimiter 로그인 시도 횟수 제한
+     * @return 라우터 함수
+     */
+    @Bean
+    public RouterFunction<ServerResponse> reactiveLoginRoute(UserService userService, LoginRateLimiter loginRateLimiter) {
+        ReactiveLoginHandler handler = new ReactiveLoginHandler(userService, loginRateLimiter, Schedulers.boundedElastic());
+        return RouterFunctions.route()
+                .POST("/api/login", handler::login)
+                .build();
+    }
+}
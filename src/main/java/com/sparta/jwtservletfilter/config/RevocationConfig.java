@@ -0,0 +1,16 @@
+package com.sparta.jwtservletfilter.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * - 토큰 폐기 목록, 리프레시 토큰 저장소의 주기 작업(만료 항목 정리)을 켜는 클래스입니다.
+ * - 저장소 기본 구현은 RevocationStoreAutoConfiguration 이 등록합니다. (다른 RevocationStore, RefreshTokenStore 빈이 없을 때)
+ *  * @author JaeHwan Kim
+ *  * @version 1.0
+ *  * @since 1.0
+ */
+@Configuration
+@EnableScheduling
+public class RevocationConfig {
+}
@@ -0,0 +1,35 @@
+package com.sparta.jwtservletfilter.config;
+
+import com.sparta.jwtservletfilter.util.InMemoryRefreshTokenStore;
+import com.sparta.jwtservletfilter.util.InMemoryRevocationStore;
+import com.sparta.jwtservletfilter.util.RefreshTokenStore;
+import com.sparta.jwtservletfilter.util.RevocationStore;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * - RevocationStore, RefreshTokenStore 의 기본 구현(프로세스 내부 저장소)을 등록하는 자동 설정입니다.
+ * - 자동 설정은 사용자 설정(@Configuration, @Component)의 빈 정의가 모두 등록된 뒤에 처리되므로,
+ *   공유 저장소 빈을 어느 설정 클래스에 두더라도 @ConditionalOnMissingBean 이 그 빈을 보고 기본 구현을 건너뜁니다.
+ * - META-INF/spring/org.springframework.boot.autoconfigure.AutoConfiguration.imports 에 등록되어 있으며,
+ *   컴포넌트 스캔 대상에서는 제외됩니다. (AutoConfigurationExcludeFilter)
+ *  * @author JaeHwan Kim
+ *  * @version 1.0
+ *  * @since 1.0
+ */
+@AutoConfiguration
+public class RevocationStoreAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(RevocationStore.class)
+    public RevocationStore revocationStore() {
+        return new InMemoryRevocationStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RefreshTokenStore.class)
+    public RefreshTokenStore refreshTokenStore() {
+        return new InMemoryRefreshTokenStore();
+    }
+}
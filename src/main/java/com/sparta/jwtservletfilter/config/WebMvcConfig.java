@@ -0,0 +1,26 @@
+package com.sparta.jwtservletfilter.config;
+
+import com.sparta.jwtservletfilter.aop.RoleCheckInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * - Spring MVC 설정 클래스입니다.
+ * - @RequiresRole 권한 체크 인터셉터를 등록합니다.
+ *  * @author JaeHwan Kim
+ *  * @version 1.0
+ *  * @since 1.0
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final RoleCheckInterceptor roleCheckInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(roleCheckInterceptor);
+    }
+}
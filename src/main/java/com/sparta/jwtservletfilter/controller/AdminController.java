@@ -1,11 +1,21 @@
 package com.sparta.jwtservletfilter.controller;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.dto.TokenRevokeRequestDto;
+import com.sparta.jwtservletfilter.util.JwtUtil;
+import com.sparta.jwtservletfilter.util.TokenRevocationList;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -13,11 +23,33 @@ import org.springframework.web.bind.annotation.RestController;
 @Slf4j
 public class AdminController {
 
-    // @RequiresRole("ADMIN") <- AOP 활용시 사용하시면 됩니다.
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationList tokenRevocationList;
+
+    // @RequiresRole(UserRoleEnum.ADMIN) <- 사용 시 RoleCheckInterceptor 가 권한을 검사합니다.
     @GetMapping("/get")
-    public String getAdminInfo(HttpServletRequest request) {
-        log.info("어드민 페이지 호출");
-        // 토큰 검증
+    public String getAdminInfo(@RequestAttribute(JwtPrincipal.ATTRIBUTE) JwtPrincipal principal) {
+        log.info("어드민 페이지 호출 : {}", principal.username());
+        // 토큰 검증은 JwtFilter 에서 완료됨
         return "어드민 페이지 리소스가 허가되었습니다.";
     }
+
+    /**
+     * 다른 사용자의 토큰을 강제로 폐기합니다.
+     * - 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요가 없으므로 400 을 반환합니다.
+     */
+    @PostMapping("/tokens/revoke")
+    public ResponseEntity<Void> revokeToken(@RequestAttribute(JwtPrincipal.ATTRIBUTE) JwtPrincipal principal,
+                                            @Valid @RequestBody TokenRevokeRequestDto requestDto) {
+        String token = requestDto.getToken();
+        if (token.startsWith(JwtUtil.BEARER_PREFIX)) {
+            token = token.substring(JwtUtil.BEARER_PREFIX.length());
+        }
+        JwtPrincipal target = jwtUtil.parsePrincipal(token);
+        if (target == null || !tokenRevocationList.revoke(target)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "폐기할 수 없는 토큰입니다.");
+        }
+        log.info("토큰 강제 폐기 : {} (by {})", target.username(), principal.username());
+        return ResponseEntity.noContent().build();
+    }
 }
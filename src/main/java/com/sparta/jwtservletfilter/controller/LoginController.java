@@ -1,30 +1,85 @@
 package com.sparta.jwtservletfilter.controller;
 
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
 import com.sparta.jwtservletfilter.dto.RequestDto;
+import com.sparta.jwtservletfilter.dto.TokenPair;
+import com.sparta.jwtservletfilter.service.LoginRateLimiter;
+import com.sparta.jwtservletfilter.service.RefreshTokenService;
 import com.sparta.jwtservletfilter.service.UserService;
+import com.sparta.jwtservletfilter.util.TokenRevocationList;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 @Slf4j
 public class LoginController {
+    // 리프레시 토큰을 주고받는 헤더
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+
     private final UserService userService;
+    private final TokenRevocationList tokenRevocationList;
+    private final RefreshTokenService refreshTokenService;
+    private final LoginRateLimiter loginRateLimiter;
 
+    /**
+     * 로그인 후 JWT 토큰과 리프레시 토큰을 발급합니다.
+     * - BCrypt 검증은 전용 스레드 풀에서 수행되고, 요청 스레드는 결과를 기다리지 않고 반환됩니다. (비동기 응답)
+     * - 검증 풀이 포화 상태이면 503 을 즉시 반환합니다.
+     * - IP/사용자 이름별 시도 횟수를 넘으면 사용자 조회, BCrypt 검증 전에 429 를 반환합니다.
+     */
     @PostMapping("/login")
-    public ResponseEntity<Object> login(@RequestBody RequestDto requestDto) {
+    public CompletableFuture<ResponseEntity<Object>> login(@Valid @RequestBody RequestDto requestDto, HttpServletRequest request) {
+        loginRateLimiter.check(request.getRemoteAddr(), requestDto.getUsername());
+
+        return userService.loginAsync(requestDto).thenApply(tokens ->
+                // 응답 헤더에 JWT 토큰을 추가합니다.
+                // ResponseEntity를 생성하여 상태 코드를 201(CREATED)로 설정하고, 헤더에 JWT를 포함하여 반환합니다.
+                toResponse(tokens));
+    }
 
-        String token = userService.login(requestDto);
+    /**
+     * 리프레시 토큰으로 JWT 토큰을 다시 발급합니다. (BCrypt 를 거치지 않음)
+     * - 사용한 리프레시 토큰은 폐기되고, 새 리프레시 토큰이 응답 헤더로 전달됩니다.
+     */
+    @PostMapping("/token/refresh")
+    public ResponseEntity<Object> refresh(@RequestHeader(REFRESH_TOKEN_HEADER) String refreshToken) {
+        return toResponse(userService.refresh(refreshToken));
+    }
+
+    /**
+     * 현재 토큰을 만료 시간까지 폐기합니다. (역할과 관계없이 인증된 사용자 모두 호출 가능)
+     * - 리프레시 토큰 헤더가 있으면 리프레시 토큰도 함께 폐기합니다. (본인의 최신 리프레시 토큰일 때만)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestAttribute(JwtPrincipal.ATTRIBUTE) JwtPrincipal principal,
+                                       @RequestHeader(value = REFRESH_TOKEN_HEADER, required = false) String refreshToken) {
+        if (!tokenRevocationList.revoke(principal)) {
+            log.warn("jti 가 없는 토큰은 폐기할 수 없습니다 : {}", principal.username());
+        }
+        if (refreshToken != null && !refreshTokenService.revoke(principal, refreshToken)) {
+            log.warn("본인의 최신 리프레시 토큰이 아니어서 폐기하지 않았습니다 : {}", principal.username());
+        }
+        return ResponseEntity.noContent().build();
+    }
 
-        // 응답 헤더에 JWT 토큰을 추가합니다.
-        // ResponseEntity를 생성하여 상태 코드를 201(CREATED)로 설정하고, 헤더에 JWT를 포함하여 반환합니다.
-        return ResponseEntity.status(HttpStatus.CREATED).header("Authorization", token).build();
+    private static ResponseEntity<Object> toResponse(TokenPair tokens) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header("Authorization", tokens.accessToken())
+                .header(REFRESH_TOKEN_HEADER, tokens.refreshToken())
+                .build();
     }
 }
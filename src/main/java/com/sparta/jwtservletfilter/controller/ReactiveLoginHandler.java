@@ -0,0 +1,62 @@
+package com.sparta.jwtservletfilter.controller;
+
+import com.sparta.jwtservletfilter.dto.RequestDto;
+import com.sparta.jwtservletfilter.dto.TokenPair;
+import com.sparta.jwtservletfilter.service.LoginRateLimiter;
+import com.sparta.jwtservletfilter.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * LoginController 의 WebFlux(함수형 엔드포인트) 버전
+ * - 이벤트 루프 스레드에서는 요청 본문 읽기와 횟수 제한 확인만 합니다.
+ * - 사용자 조회(캐시 미스 시 JPA)는 블로킹이므로 lookupScheduler(boundedElastic)에서 실행합니다.
+ * - BCrypt 는 UserService.loginAsync 가 PasswordVerificationPool(크기와 대기열이 제한된 전용 풀)로 넘기고,
+ *   그 결과(CompletableFuture)를 Mono 로 이어받으므로 어떤 스레드도 BCrypt 를 기다리며 막히지 않습니다.
+ * - 응답 형식(201 + Authorization, Refresh-Token 헤더)은 LoginController 와 같습니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ReactiveLoginHandler {
+
+    private final UserService userService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final Scheduler lookupScheduler;
+
+    /**
+     * 로그인 후 JWT 토큰과 리프레시 토큰을 발급합니다.
+     * @param request 로그인 요청 (본문: RequestDto)
+     * @return 201 응답 (본문 없음 400, 한도 초과 429, 검증 풀 포화 503)
+     */
+    public Mono<ServerResponse> login(ServerRequest request) {
+        String clientAddress = request.remoteAddress()
+                .map(InetSocketAddress::getAddress)
+                .map(InetAddress::getHostAddress)
+                .orElse(null);
+        return request.bodyToMono(RequestDto.class)
+                // 본문이 없으면 빈 200 대신 400 으로 응답합니다. (서블릿 @RequestBody 와 같음)
+                .switchIfEmpty(Mono.error(new ServerWebInputException("요청 본문이 필요합니다.")))
+                .doOnNext(requestDto -> loginRateLimiter.check(clientAddress, requestDto.getUsername()))
+                .flatMap(requestDto -> Mono.fromFuture(() -> userService.loginAsync(requestDto))
+                        .subscribeOn(lookupScheduler))
+                .flatMap(ReactiveLoginHandler::toResponse);
+    }
+
+    private static Mono<ServerResponse> toResponse(TokenPair tokens) {
+        return ServerResponse.status(HttpStatus.CREATED)
+                .header("Authorization", tokens.accessToken())
+                .header(LoginController.REFRESH_TOKEN_HEADER, tokens.refreshToken())
+                .build();
+    }
+}
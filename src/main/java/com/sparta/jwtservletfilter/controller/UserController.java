@@ -1,10 +1,11 @@
 package com.sparta.jwtservletfilter.controller;
 
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
 import com.sparta.jwtservletfilter.service.UserService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestAttribute;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -16,11 +17,11 @@ public class UserController {
 
     private final UserService userService;
 
-    // @RequiresRole("USER") <- AOP 활용시 사용하시면 됩니다.
+    // @RequiresRole(UserRoleEnum.USER) <- 사용 시 RoleCheckInterceptor 가 권한을 검사합니다.
     @GetMapping("/get")
-    public String getUserInfo(HttpServletRequest request) {
-        log.info("유저 페이지 호출");
-        // 토큰 검증
+    public String getUserInfo(@RequestAttribute(JwtPrincipal.ATTRIBUTE) JwtPrincipal principal) {
+        log.info("유저 페이지 호출 : {}", principal.username());
+        // 토큰 검증은 JwtFilter 에서 완료됨
         return "유저 페이지 리소스가 허가되었습니다.";
     }
 
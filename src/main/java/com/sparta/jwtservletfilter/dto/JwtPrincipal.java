@@ -0,0 +1,53 @@
+package com.sparta.jwtservletfilter.dto;
+
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+
+import java.time.Instant;
+import java.util.EnumSet;
+
+/**
+ * 검증이 끝난 JWT 토큰의 주체 정보
+ * - JwtFilter 가 요청당 한 번만 토큰을 파싱/검증하고, 그 결과를 요청 속성에 저장합니다.
+ * - AOP, 컨트롤러는 토큰을 다시 파싱하지 않고 이 객체를 사용합니다.
+ * - 역할은 비트마스크로 보관하므로, 권한 확인은 비트 연산 한 번입니다.
+ *
+ * @param username   사용자 이름 (sub)
+ * @param roleMask   사용자 역할 비트마스크 (auth)
+ * @param expiration 만료 시간 (exp)
+ * @param tokenId    토큰 ID (jti, 폐기 목록 조회에 사용, 이전에 발급된 토큰은 null)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record JwtPrincipal(String username, int roleMask, Instant expiration, String tokenId) {
+
+    // 요청 속성(request attribute)에 저장할 때 사용하는 키
+    public static final String ATTRIBUTE = "jwtPrincipal";
+
+    /**
+     * 특정 역할을 가지고 있는지 확인합니다. (역할 계층은 고려하지 않음)
+     * @param role 확인할 역할
+     * @return 역할 보유 여부
+     */
+    public boolean hasRole(UserRoleEnum role) {
+        return (roleMask & role.mask()) != 0;
+    }
+
+    /**
+     * 허용 비트마스크에 해당하는 역할을 하나라도 가지고 있는지 확인합니다.
+     * @param allowedMask 허용 비트마스크 (RoleHierarchy.allowedMask 로 계산)
+     * @return 접근 가능 여부
+     */
+    public boolean hasAnyRole(int allowedMask) {
+        return (roleMask & allowedMask) != 0;
+    }
+
+    /**
+     * 역할 집합을 반환합니다.
+     * @return 역할 집합
+     */
+    public EnumSet<UserRoleEnum> roles() {
+        return UserRoleEnum.fromMask(roleMask);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparta.jwtservletfilter.dto;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 리프레시 토큰 family (한 번의 로그인에서 교체로 이어진 토큰들)
+ * - family 마다 가장 최근에 발급한 토큰의 해시 하나만 보관합니다. 교체된 이전 토큰은 따로 남기지 않으며,
+ *   해시가 다른 토큰이 오면 이전 토큰의 재사용으로 판단합니다.
+ * - 불변 객체이며, 교체/폐기는 새 객체로 바꿉니다. (RefreshTokenStore.replace 의 CAS 비교 대상)
+ *
+ * @param familyId  family ID (리프레시 토큰 앞부분에 포함)
+ * @param username  사용자 이름
+ * @param tokenHash 가장 최근 토큰의 SHA-256 해시
+ * @param expiresAt 가장 최근 토큰의 만료 시간 (epoch 밀리초, 이후에는 보관할 필요 없음)
+ * @param revoked   폐기 여부 (재사용 감지, 로그아웃)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record RefreshFamily(String familyId, String username, ByteBuffer tokenHash, long expiresAt, boolean revoked) {
+
+    /**
+     * @param tokenHash 새 토큰의 해시
+     * @param expiresAt 새 토큰의 만료 시간
+     * @return 새 토큰으로 교체한 family
+     */
+    public RefreshFamily rotate(ByteBuffer tokenHash, long expiresAt) {
+        return new RefreshFamily(familyId, username, tokenHash, expiresAt, false);
+    }
+
+    /**
+     * @return 폐기한 family (만료 시간까지 보관하여 이전 토큰의 재사용을 계속 거절)
+     */
+    public RefreshFamily revoke() {
+        return new RefreshFamily(familyId, username, tokenHash, expiresAt, true);
+    }
+}
@@ -1,7 +1,7 @@
 package com.sparta.jwtservletfilter.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
@@ -15,12 +15,12 @@ import lombok.*;
 @Setter
 @NoArgsConstructor
 public class RequestDto {
-    @NotNull
+    @NotBlank
     @Size(min = 3, max = 50)
     private String username;
 
     @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
-    @NotNull
+    @NotBlank
     @Size(min = 3, max = 100)
     private String password;
 }
@@ -0,0 +1,20 @@
+package com.sparta.jwtservletfilter.dto;
+
+/**
+ * 로그인/토큰 갱신 시 발급하는 토큰 쌍
+ *
+ * @param accessToken  JWT 액세스 토큰 ("Bearer " 접두사 포함)
+ * @param refreshToken 불투명(opaque) 리프레시 토큰
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record TokenPair(String accessToken, String refreshToken) {
+
+    @Override
+    public String toString() {
+        // 토큰 원문이 로그에 남지 않도록 제외합니다.
+        return "TokenPair[***]";
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.jwtservletfilter.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 토큰 강제 폐기 요청
+ *  * @author JaeHwan Kim
+ *  * @version 1.0
+ *  * @since 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TokenRevokeRequestDto {
+    // 폐기할 JWT 토큰 ("Bearer " 접두사 허용)
+    @NotBlank
+    private String token;
+}
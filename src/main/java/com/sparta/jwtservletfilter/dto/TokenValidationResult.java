@@ -0,0 +1,38 @@
+package com.sparta.jwtservletfilter.dto;
+
+import com.sparta.jwtservletfilter.util.TokenRejectReason;
+
+/**
+ * 토큰 검증 결과
+ * - 검증에 성공하면 주체 정보를, 실패하면 거부 사유를 담습니다. (예외를 던지지 않음)
+ * - 거부 결과는 사유별로 하나만 만들어 두고 재사용하므로, 거부 경로에서 객체를 생성하지 않습니다.
+ *
+ * @param principal 검증된 주체 정보 (거부되었으면 null)
+ * @param reason    거부 사유 (검증에 성공했으면 null)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record TokenValidationResult(JwtPrincipal principal, TokenRejectReason reason) {
+
+    private static final TokenValidationResult[] REJECTED = new TokenValidationResult[TokenRejectReason.values().length];
+
+    static {
+        for (TokenRejectReason reason : TokenRejectReason.values()) {
+            REJECTED[reason.ordinal()] = new TokenValidationResult(null, reason);
+        }
+    }
+
+    public static TokenValidationResult valid(JwtPrincipal principal) {
+        return new TokenValidationResult(principal, null);
+    }
+
+    public static TokenValidationResult rejected(TokenRejectReason reason) {
+        return REJECTED[reason.ordinal()];
+    }
+
+    public boolean isValid() {
+        return principal != null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.jwtservletfilter.dto;
+
+import com.sparta.jwtservletfilter.entity.User;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+
+/**
+ * 로그인에 필요한 최소한의 사용자 정보
+ * - 로그인 경로는 이메일 등 나머지 컬럼이 필요 없으므로, 캐시에는 이 객체만 보관합니다.
+ *
+ * @param id       사용자 ID
+ * @param username 사용자 이름
+ * @param password 비밀번호 해시
+ * @param role     사용자 역할
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record UserCredential(Long id, String username, String password, UserRoleEnum role) {
+
+    public static UserCredential from(User user) {
+        return new UserCredential(user.getId(), user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+    @Override
+    public String toString() {
+        // 비밀번호 해시가 로그에 남지 않도록 제외합니다.
+        return "UserCredential[id=" + id + ", username=" + username + ", role=" + role + "]";
+    }
+}
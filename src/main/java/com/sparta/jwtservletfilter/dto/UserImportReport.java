@@ -0,0 +1,23 @@
+package com.sparta.jwtservletfilter.dto;
+
+/**
+ * 사용자 일괄 등록 결과
+ *
+ * @param rows      등록된 행 수
+ * @param chunks    커밋된 트랜잭션(청크) 수
+ * @param elapsedMs 걸린 시간 (밀리초)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record UserImportReport(long rows, int chunks, long elapsedMs) {
+
+    /**
+     * 초당 등록 행 수
+     * @return rows / sec
+     */
+    public double rowsPerSecond() {
+        return elapsedMs == 0 ? rows * 1000.0 : rows * 1000.0 / elapsedMs;
+    }
+}
@@ -1,11 +1,56 @@
 package com.sparta.jwtservletfilter.entity;
 
+import java.util.Collection;
+import java.util.EnumSet;
+
 /**
+ * 사용자 역할
+ * - 토큰에는 역할 집합을 비트마스크(1 << ordinal)로 담습니다.
+ * - 상수의 순서(ordinal)가 비트 위치이므로, 새 역할은 항상 마지막에 추가해야 합니다.
+ *
  * @author JaeHwan Kim
  * @version 1.0
  * @since 1.0
  */
 public enum UserRoleEnum {
     USER,
-    ADMIN
+    ADMIN;
+
+    private static final UserRoleEnum[] VALUES = values();
+
+    /**
+     * 이 역할의 비트 값을 반환합니다.
+     * @return 1 << ordinal
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * 역할 집합을 비트마스크로 변환합니다.
+     * @param roles 역할 집합
+     * @return 비트마스크
+     */
+    public static int toMask(Collection<UserRoleEnum> roles) {
+        int mask = 0;
+        for (UserRoleEnum role : roles) {
+            mask |= role.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 역할 집합으로 변환합니다. 알 수 없는 비트는 무시합니다.
+     * @param mask 비트마스크
+     * @return 역할 집합
+     */
+    public static EnumSet<UserRoleEnum> fromMask(int mask) {
+        EnumSet<UserRoleEnum> roles = EnumSet.noneOf(UserRoleEnum.class);
+        for (UserRoleEnum role : VALUES) {
+            if ((mask & role.mask()) != 0) {
+                roles.add(role);
+            }
+        }
+        return roles;
+    }
 }
@@ -0,0 +1,101 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.dto.TokenValidationResult;
+import com.sparta.jwtservletfilter.util.AuthMetrics;
+import com.sparta.jwtservletfilter.util.AuthMetrics.Outcome;
+import com.sparta.jwtservletfilter.util.JwtUtil;
+import com.sparta.jwtservletfilter.util.TokenRejectReason;
+import com.sparta.jwtservletfilter.util.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨테이너와 무관한 JWT 인증/인가 판단
+ * - 경로 정책 조회, 토큰 검증, 폐기 여부, 역할 확인을 한 번에 수행하고 결과(AuthDecision)만 돌려줍니다.
+ * - 서블릿(JwtFilter)과 WebFlux(ReactiveJwtFilter) 어댑터가 같은 판단을 공유하며,
+ *   어댑터는 요청에서 경로와 Authorization 헤더를 꺼내고, 결과를 응답으로 옮기는 일만 합니다.
+ * - 블로킹 호출이 없으므로(모두 메모리 조회와 서명 검증) 이벤트 루프 스레드에서 바로 호출할 수 있습니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticator {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private static final AuthDecision PUBLIC = new AuthDecision(Outcome.PUBLIC, null, null);
+    private static final AuthDecision MISSING_TOKEN = new AuthDecision(Outcome.MISSING_TOKEN, null, "JWT 토큰이 필요합니다.");
+    private static final AuthDecision EXPIRED_TOKEN = new AuthDecision(Outcome.INVALID_TOKEN, null, "만료된 JWT 토큰입니다.");
+    private static final AuthDecision INVALID_TOKEN = new AuthDecision(Outcome.INVALID_TOKEN, null, "유효하지 않은 JWT 토큰입니다.");
+
+    private final JwtUtil jwtUtil;
+    private final RoutePolicyRegistry routePolicyRegistry;
+    private final TokenRevocationList tokenRevocationList;
+    private final AuthMetrics authMetrics;
+
+    /**
+     * 요청을 인증/인가합니다. 처리 결과와 소요 시간은 AuthMetrics(jwt.filter)에 기록합니다.
+     * @param path 컨텍스트 경로를 뺀 요청 경로
+     * @param authorizationHeader Authorization 헤더 값 (없으면 null)
+     * @return 판단 결과
+     */
+    public AuthDecision authenticate(String path, String authorizationHeader) {
+        long startedAt = System.nanoTime();
+        AuthDecision decision = decide(path, authorizationHeader);
+        authMetrics.recordFilter(decision.outcome(), startedAt);
+        return decision;
+    }
+
+    private AuthDecision decide(String path, String authorizationHeader) {
+        // 경로에 적용할 접근 정책을 한 번에 조회합니다. (공개 경로 여부 + 필요한 역할)
+        RoutePolicy policy = routePolicyRegistry.resolve(path);
+        if (policy.publicPath()) {
+            return PUBLIC;
+        }
+        if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+            return MISSING_TOKEN;
+        }
+
+        // 검증 실패는 예외가 아닌 거부 사유로 돌아옵니다.
+        TokenValidationResult result = jwtUtil.validate(authorizationHeader.substring(BEARER_PREFIX.length()));
+        if (!result.isValid()) {
+            return result.reason() == TokenRejectReason.EXPIRED ? EXPIRED_TOKEN : INVALID_TOKEN;
+        }
+        JwtPrincipal principal = result.principal();
+        // 토큰 캐시에서 나온 주체도 폐기 여부는 매번 확인합니다.
+        if (tokenRevocationList.isRevoked(principal.tokenId())) {
+            return new AuthDecision(Outcome.REVOKED, principal, "폐기된 JWT 토큰입니다.");
+        }
+        if (!policy.permits(principal)) {
+            return new AuthDecision(Outcome.FORBIDDEN, principal, "접근권한이 없습니다.");
+        }
+        return new AuthDecision(Outcome.ACCEPTED, principal, null);
+    }
+
+    /**
+     * 인증/인가 판단 결과
+     * @param outcome   처리 결과 (HTTP 상태 코드 포함)
+     * @param principal 검증된 주체 정보 (토큰 검증 전에 끝났으면 null)
+     * @param message   거절 사유 메시지 (진행하면 null)
+     */
+    public record AuthDecision(Outcome outcome, JwtPrincipal principal, String message) {
+
+        /**
+         * @return 다음 필터/핸들러로 진행할지 여부
+         */
+        public boolean proceeds() {
+            return outcome.proceeds();
+        }
+
+        /**
+         * @return 거절 시 응답할 HTTP 상태 코드
+         */
+        public int status() {
+            return outcome.status();
+        }
+    }
+}
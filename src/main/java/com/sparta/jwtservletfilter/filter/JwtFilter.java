@@ -1,18 +1,25 @@
 package com.sparta.jwtservletfilter.filter;
 
-import com.sparta.jwtservletfilter.util.JwtUtil;
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.filter.JwtAuthenticator.AuthDecision;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 
 import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * JwtFilter는 HTTP 요청을 필터링하여 JWT 토큰의 유효성을 검증합니다.
  * - 필터 초기화 및 종료 시 로직을 추가할 수 있습니다.
  * - 모든 요청에 대해 JWT 인증을 수행하며, JWT가 없거나 유효하지 않으면 에러를 반환합니다.
+ * - 판단(경로 정책, 토큰 검증, 폐기 여부, 역할)은 JwtAuthenticator 가 하고, 이 필터는 서블릿 요청/응답과 연결만 합니다.
+ *   (WebFlux 는 같은 JwtAuthenticator 를 ReactiveJwtFilter 로 사용)
+ * - 요청 ID(X-Request-Id 또는 생성)와 인증된 사용자 이름을 MDC 에 넣고, 요청이 끝나면 지웁니다.
+ *   (플랫폼 스레드는 재사용되고, 가상 스레드는 요청마다 새로 만들어지므로 어느 쪽이든 다음 요청에 남지 않음)
  *
  * @author JaeHwan Kim
  * @version 1.0
@@ -22,7 +29,13 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
-    private final JwtUtil jwtUtil;
+    // MDC 키 (로그 패턴의 %X{requestId}, %X{user})
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_USER = "user";
+    private static final String REQUEST_ID_HEADER = "X-Request-Id";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+
+    private final JwtAuthenticator jwtAuthenticator;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -32,64 +45,60 @@ public class JwtFilter implements Filter {
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
-        String requestURI = httpRequest.getRequestURI();
-        String username = null;
-        String jwt = null;
-
-        // 헤더에서 Authorization 토큰을 가져옵니다.
-        String authorizationHeader = httpRequest.getHeader("Authorization");
-
-        // 허용할 URL 패턴 정의
-        if (requestURI.equals("/api/login")) {
-            // 인증이 필요하지 않은 URL은 바로 다음 필터로 전달
-            chain.doFilter(request, response);
-            return;
+        MDC.put(MDC_REQUEST_ID, requestId(httpRequest));
+        try {
+            authenticate(httpRequest, (HttpServletResponse) response, chain);
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_USER);
         }
+    }
 
-        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "JWT 토큰이 필요합니다.");
-            return;
+    private void authenticate(HttpServletRequest httpRequest, HttpServletResponse httpResponse, FilterChain chain)
+            throws IOException, ServletException {
+        AuthDecision decision = jwtAuthenticator.authenticate(policyPath(httpRequest), httpRequest.getHeader("Authorization"));
+        JwtPrincipal principal = decision.principal();
+        if (principal != null) {
+            MDC.put(MDC_USER, principal.username());
         }
-
-        // JWT 토큰에서 'Bearer ' 부분을 제거하고 토큰만 추출합니다.
-        jwt = authorizationHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
-
-
-        // 사용자 권한에 대한 인증 처리
-
-        // ADMIN 인지 체크하여 패스
-        if (jwtUtil.hasRole(jwt, "ADMIN")) {
-            if(requestURI.startsWith("/api/admin")) {
-                chain.doFilter(request, response);
-            } else {
-                // 권한이 없으면 403 Forbidden 응답
-                httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "접근권한이 없습니다.");
-            }
+        if (!decision.proceeds()) {
+            httpResponse.sendError(decision.status(), decision.message());
             return;
         }
+        if (principal != null) {
+            // 토큰은 요청당 한 번만 검증하고, 결과를 요청 속성에 저장하여 재사용합니다.
+            httpRequest.setAttribute(JwtPrincipal.ATTRIBUTE, principal);
+        }
+        chain.doFilter(httpRequest, httpResponse);
+    }
 
-        // USER 인지 체크하여 패스
-        if (jwtUtil.hasRole(jwt, "USER")) {
-            if(requestURI.startsWith("/api/user")) {
-                chain.doFilter(request, response);
-            } else {
-                // 권한이 없으면 403 Forbidden 응답
-                httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "접근권한이 없습니다.");
-            }
-            return;
+    /**
+     * 접근 정책을 찾을 경로를 반환합니다.
+     * - 컨테이너가 디코딩/정규화한 경로(servletPath + pathInfo)를 사용하므로, 핸들러가 받는 경로와 같습니다.
+     *   (getRequestURI 는 원본이라 "/api/user/..;/admin/get" 이 /api/user/** 규칙에 걸림)
+     * - 원본 경로에 우회용 세그먼트(.., ., ;, 인코딩된 / 등)가 있으면 원본을 그대로 넘겨 정책 테이블이 DENY 로 거절하게 합니다.
+     */
+    private static String policyPath(HttpServletRequest request) {
+        String requestURI = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        String rawPath = contextPath.isEmpty() ? requestURI : requestURI.substring(contextPath.length());
+        if (RouteAuthorizationTable.hasUnsafeSegment(rawPath)) {
+            return rawPath;
         }
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
 
-        if (username != null && jwtUtil.validateToken(jwt)) {
-            // JWT가 유효한 경우
-            log.info("JWT TOKEN VALID");
-            chain.doFilter(request, response);
-        } else {
-            // 권한이 없으면 403 Forbidden 응답
-            httpResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
-            httpResponse.getWriter().write("{\"error\": \"Unauthorized\"}");
+    /**
+     * 요청 헤더의 요청 ID 를 사용하고, 없거나 로그에 넣기 안전하지 않으면 새로 만듭니다.
+     */
+    private static String requestId(HttpServletRequest request) {
+        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        if (requestId != null && !requestId.isEmpty() && requestId.length() <= MAX_REQUEST_ID_LENGTH
+                && requestId.chars().allMatch(c -> c == '-' || c == '_' || Character.isLetterOrDigit(c) && c < 128)) {
+            return requestId;
         }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
     }
 
     @Override
@@ -0,0 +1,48 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.filter.JwtAuthenticator.AuthDecision;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtFilter 의 WebFlux 어댑터
+ * - JwtFilter 와 같은 JwtAuthenticator 로 판단하므로, 경로 정책/토큰 검증/폐기 여부/역할 확인 결과가 서블릿과 같습니다.
+ * - 판단은 메모리 조회와 서명 검증뿐이므로 이벤트 루프 스레드에서 바로 수행합니다. (다른 스케줄러로 넘기지 않음)
+ * - 검증된 주체 정보는 교환 속성(JwtPrincipal.ATTRIBUTE)에 저장합니다.
+ * - 거절 시 오류 처리기를 거치지 않고 상태 코드만 설정해 응답을 끝냅니다. (서블릿의 sendError 와 달리 본문 없음)
+ * - spring-webflux 가 있는 리액티브 애플리케이션에서만 ReactiveAuthConfig 가 등록합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtFilter implements WebFilter {
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String path = exchange.getRequest().getPath().pathWithinApplication().value();
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        AuthDecision decision = jwtAuthenticator.authenticate(path, authorizationHeader);
+        if (!decision.proceeds()) {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatusCode.valueOf(decision.status()));
+            return response.setComplete();
+        }
+        JwtPrincipal principal = decision.principal();
+        if (principal != null) {
+            exchange.getAttributes().put(JwtPrincipal.ATTRIBUTE, principal);
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,268 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로 세그먼트 단위의 접두사 트리(trie)로 컴파일된 접근 정책 테이블
+ * - 요청 경로를 한 번 훑으면서 필요한 역할과 공개 경로 여부를 함께 찾습니다.
+ * - 정규식이나 문자열 분할 없이, 요청 경로 위에서 세그먼트를 직접 비교합니다.
+ *
+ * 지원하는 패턴
+ * - /api/login      : 정확히 일치하는 경로
+ * - /api/admin/**   : /api/admin 과 그 하위 경로 전체
+ * - /api/user/{id}, /api/user/* : 한 세그먼트 와일드카드
+ *
+ * 정확히 일치하는 규칙이 접두사 규칙보다 우선하며, 접두사 규칙은 가장 깊은 것이 적용됩니다.
+ * 리터럴 세그먼트가 와일드카드보다 우선하며, 되돌아가며(backtracking) 다시 찾지는 않습니다.
+ * 경로 우회에 쓰이는 세그먼트(".", "..", ";" 경로 파라미터, "\", 인코딩된 "/", "\", ".", ";")가 있으면
+ * 규칙과 무관하게 DENY 입니다. (컨테이너가 정규화한 경로와 이 테이블이 보는 경로가 달라지는 것을 막음)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RouteAuthorizationTable {
+
+    private static final String WILDCARD = "*";
+    private static final String PREFIX_SUFFIX = "/**";
+
+    private final Node root;
+    private final RoutePolicy defaultPolicy;
+
+    private RouteAuthorizationTable(Node root, RoutePolicy defaultPolicy) {
+        this.root = root;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    public static Builder builder() {
+        return new Builder(RoleHierarchy.none());
+    }
+
+    /**
+     * 역할 계층을 반영하는 빌더를 생성합니다.
+     * @param roleHierarchy 역할 계층 (설정 규칙의 역할을 허용 비트마스크로 바꿀 때 사용)
+     * @return 빌더
+     */
+    public static Builder builder(RoleHierarchy roleHierarchy) {
+        return new Builder(roleHierarchy);
+    }
+
+    /**
+     * 요청 경로에 적용할 접근 정책을 찾습니다.
+     * @param path 요청 경로 (예: /api/user/get)
+     * @return 접근 정책 (일치하는 규칙이 없으면 기본 정책)
+     */
+    public RoutePolicy resolve(String path) {
+        Node node = root;
+        RoutePolicy prefixMatch = root.prefixPolicy;
+        int length = path.length();
+        int pos = (length > 0 && path.charAt(0) == '/') ? 1 : 0;
+
+        if (pos < length) {
+            while (true) {
+                int end = path.indexOf('/', pos);
+                if (end < 0) {
+                    end = length;
+                }
+                if (isUnsafeSegment(path, pos, end)) {
+                    return RoutePolicy.DENY;
+                }
+                node = node.child(path, pos, end);
+                if (node == null) {
+                    return prefixMatch != null ? prefixMatch : defaultPolicy;
+                }
+                if (node.prefixPolicy != null) {
+                    prefixMatch = node.prefixPolicy;
+                }
+                if (end >= length) {
+                    break;
+                }
+                pos = end + 1;
+            }
+        }
+        if (node.exactPolicy != null) {
+            return node.exactPolicy;
+        }
+        return prefixMatch != null ? prefixMatch : defaultPolicy;
+    }
+
+    /**
+     * 경로에 우회용 세그먼트가 있는지 확인합니다.
+     * @param path 요청 경로 (디코딩 전 원본 포함)
+     * @return "." 또는 ".." 세그먼트, 또는 ";", "\", 인코딩된 "/", "\", ".", ";" 를 포함한 세그먼트가 있으면 true
+     */
+    public static boolean hasUnsafeSegment(String path) {
+        int length = path.length();
+        int pos = 0;
+        while (pos <= length) {
+            int end = path.indexOf('/', pos);
+            if (end < 0) {
+                end = length;
+            }
+            if (isUnsafeSegment(path, pos, end)) {
+                return true;
+            }
+            pos = end + 1;
+        }
+        return false;
+    }
+
+    private static boolean isUnsafeSegment(String path, int start, int end) {
+        int length = end - start;
+        if ((length == 1 || length == 2) && path.charAt(start) == '.' && path.charAt(end - 1) == '.') {
+            return true;
+        }
+        for (int i = start; i < end; i++) {
+            char c = path.charAt(i);
+            if (c == ';' || c == '\\') {
+                return true;
+            }
+            if (c == '%') {
+                if (i + 2 >= end) {
+                    return true; // 잘린 인코딩
+                }
+                char high = path.charAt(i + 1);
+                char low = Character.toLowerCase(path.charAt(i + 2));
+                if ((high == '2' && (low == 'f' || low == 'e')) || (high == '5' && low == 'c') || (high == '3' && low == 'b')) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 컴파일된 트리의 노드
+     * - 자식 수가 적으므로 배열을 순서대로 비교하는 편이 해시 조회보다 빠르고 할당이 없습니다.
+     */
+    private static final class Node {
+        private final String[] segments;
+        private final Node[] children;
+        private final Node wildcard;
+        private final RoutePolicy exactPolicy;
+        private final RoutePolicy prefixPolicy;
+
+        private Node(String[] segments, Node[] children, Node wildcard, RoutePolicy exactPolicy, RoutePolicy prefixPolicy) {
+            this.segments = segments;
+            this.children = children;
+            this.wildcard = wildcard;
+            this.exactPolicy = exactPolicy;
+            this.prefixPolicy = prefixPolicy;
+        }
+
+        private Node child(String path, int start, int end) {
+            int length = end - start;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.length() == length && path.regionMatches(start, segment, 0, length)) {
+                    return children[i];
+                }
+            }
+            return length > 0 ? wildcard : null;
+        }
+    }
+
+    /**
+     * 규칙을 모아 불변 테이블로 컴파일하는 빌더
+     */
+    public static final class Builder {
+        private final MutableNode root = new MutableNode();
+        private final RoleHierarchy roleHierarchy;
+        private RoutePolicy defaultPolicy = RoutePolicy.DENY;
+
+        private Builder(RoleHierarchy roleHierarchy) {
+            this.roleHierarchy = roleHierarchy;
+        }
+
+        /**
+         * 경로 패턴에 접근 정책을 등록합니다. 같은 패턴을 다시 등록하면 나중 값이 적용됩니다.
+         * @param pattern 경로 패턴
+         * @param policy 접근 정책
+         * @return 빌더
+         */
+        public Builder add(String pattern, RoutePolicy policy) {
+            String path = pattern.trim();
+            boolean prefix = path.endsWith(PREFIX_SUFFIX);
+            if (prefix) {
+                path = path.substring(0, path.length() - PREFIX_SUFFIX.length());
+            }
+            MutableNode node = root;
+            for (String segment : path.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (segment.equals(WILDCARD) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                    segment = WILDCARD;
+                } else if (segment.contains("*") || segment.contains("{")) {
+                    throw new IllegalArgumentException("지원하지 않는 경로 패턴입니다: " + pattern);
+                }
+                node = node.children.computeIfAbsent(segment, s -> new MutableNode());
+            }
+            if (prefix) {
+                node.prefixPolicy = policy;
+            } else {
+                node.exactPolicy = policy;
+            }
+            return this;
+        }
+
+        /**
+         * "패턴=정책" 형식의 규칙 목록을 등록합니다. (예: /api/login=PUBLIC,/api/admin/**=ADMIN)
+         * @param rules 쉼표로 구분된 규칙 목록
+         * @return 빌더
+         */
+        public Builder addAll(String rules) {
+            for (String rule : rules.split(",")) {
+                if (rule.isBlank()) {
+                    continue;
+                }
+                int separator = rule.lastIndexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("경로 규칙은 '패턴=정책' 형식이어야 합니다: " + rule);
+                }
+                add(rule.substring(0, separator), RoutePolicy.parse(rule.substring(separator + 1), roleHierarchy));
+            }
+            return this;
+        }
+
+        /**
+         * 어떤 규칙에도 해당하지 않는 경로의 정책을 지정합니다. (기본값: DENY)
+         * @param policy 기본 정책
+         * @return 빌더
+         */
+        public Builder defaultPolicy(RoutePolicy policy) {
+            this.defaultPolicy = policy;
+            return this;
+        }
+
+        public RouteAuthorizationTable build() {
+            return new RouteAuthorizationTable(root.compile(), defaultPolicy);
+        }
+    }
+
+    private static final class MutableNode {
+        private final Map<String, MutableNode> children = new LinkedHashMap<>();
+        private RoutePolicy exactPolicy;
+        private RoutePolicy prefixPolicy;
+
+        private Node compile() {
+            List<String> segments = new ArrayList<>();
+            List<Node> compiled = new ArrayList<>();
+            Node wildcard = null;
+            for (Map.Entry<String, MutableNode> entry : children.entrySet()) {
+                if (entry.getKey().equals(WILDCARD)) {
+                    wildcard = entry.getValue().compile();
+                } else {
+                    segments.add(entry.getKey());
+                    compiled.add(entry.getValue().compile());
+                }
+            }
+            return new Node(segments.toArray(new String[0]), compiled.toArray(new Node[0]), wildcard, exactPolicy, prefixPolicy);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+
+import java.util.Locale;
+
+/**
+ * 경로별 접근 정책
+ * - PUBLIC: 인증 없이 통과
+ * - DENY: 인증된 사용자라도 접근 불가 (어떤 규칙에도 해당하지 않는 경로의 기본값)
+ * - AUTHENTICATED: 역할과 관계없이 유효한 토큰이면 접근 가능 (예: 로그아웃)
+ * - 그 외: 지정된 역할(또는 역할 계층상 그 역할을 포함하는 역할)을 가진 사용자만 접근 가능
+ *
+ * @param publicPath   인증 없이 통과하는 경로인지 여부
+ * @param requiredRole 접근에 필요한 역할 (PUBLIC, DENY, AUTHENTICATED 는 null)
+ * @param allowedMask  접근이 허용되는 역할 비트마스크 (역할 계층이 반영된 값)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public record RoutePolicy(boolean publicPath, UserRoleEnum requiredRole, int allowedMask) {
+
+    public static final RoutePolicy PUBLIC = new RoutePolicy(true, null, 0);
+    public static final RoutePolicy DENY = new RoutePolicy(false, null, 0);
+    // 검증된 토큰에는 항상 역할 비트가 하나 이상 있으므로, 모든 비트를 허용하면 인증만 확인합니다.
+    public static final RoutePolicy AUTHENTICATED = new RoutePolicy(false, null, -1);
+
+    /**
+     * 특정 역할이 필요한 정책을 생성합니다.
+     * @param role 필요한 역할
+     * @param hierarchy 역할 계층
+     * @return 접근 정책
+     */
+    public static RoutePolicy requires(UserRoleEnum role, RoleHierarchy hierarchy) {
+        return new RoutePolicy(false, role, hierarchy.allowedMask(role));
+    }
+
+    /**
+     * 설정 값으로 정책을 생성합니다.
+     * @param value PUBLIC, DENY, AUTHENTICATED 또는 역할 이름 (USER, ADMIN)
+     * @param hierarchy 역할 계층
+     * @return 접근 정책
+     */
+    public static RoutePolicy parse(String value, RoleHierarchy hierarchy) {
+        String name = value.trim().toUpperCase(Locale.ROOT);
+        return switch (name) {
+            case "PUBLIC" -> PUBLIC;
+            case "DENY" -> DENY;
+            case "AUTHENTICATED" -> AUTHENTICATED;
+            default -> requires(UserRoleEnum.valueOf(name), hierarchy);
+        };
+    }
+
+    /**
+     * 검증된 주체가 이 경로에 접근할 수 있는지 확인합니다. (비트 연산 한 번)
+     * @param principal 검증된 주체 정보
+     * @return 접근 가능 여부
+     */
+    public boolean permits(JwtPrincipal principal) {
+        return publicPath || principal.hasAnyRole(allowedMask);
+    }
+}
@@ -0,0 +1,90 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.aop.RequiresRole;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * JwtFilter 가 사용하는 경로별 접근 정책 저장소
+ * - 설정 파일의 jwt.route.rules 로 기본 테이블을 만들고,
+ * - 컨텍스트가 준비되면 @RequiresRole 이 붙은 핸들러 메서드의 경로를 더해 한 번 더 컴파일합니다.
+ * - 컴파일된 테이블은 불변 객체이므로, 요청 스레드는 락 없이 읽기만 합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "RoutePolicyRegistry")
+@Component
+public class RoutePolicyRegistry {
+
+    // Spring MVC 사용 여부 (WebFlux 애플리케이션에서는 @RequiresRole 경로를 모으지 않음)
+    private static final boolean WEB_MVC_PRESENT = ClassUtils.isPresent(
+            "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping",
+            RoutePolicyRegistry.class.getClassLoader());
+
+    // 경로 규칙 (패턴=정책, 쉼표로 구분)
+    private final String rules;
+    // 역할 계층 (정책의 허용 비트마스크 계산에 사용)
+    private final RoleHierarchy roleHierarchy;
+    // 현재 적용 중인 접근 정책 테이블
+    private volatile RouteAuthorizationTable table;
+
+    public RoutePolicyRegistry(@Value("${jwt.route.rules:/api/login=PUBLIC,/api/token/refresh=PUBLIC,/api/logout=AUTHENTICATED,/api/admin/**=ADMIN,/api/user/**=USER,/actuator/health=PUBLIC,/actuator/**=ADMIN}") String rules,
+                               RoleHierarchy roleHierarchy) {
+        this.rules = rules;
+        this.roleHierarchy = roleHierarchy;
+        this.table = RouteAuthorizationTable.builder(roleHierarchy).addAll(rules).build();
+    }
+
+    /**
+     * 요청 경로에 적용할 접근 정책을 찾습니다.
+     * @param path 요청 경로
+     * @return 접근 정책
+     */
+    public RoutePolicy resolve(String path) {
+        return table.resolve(path);
+    }
+
+    /**
+     * 핸들러 매핑이 모두 등록된 뒤, @RequiresRole 이 붙은 핸들러 메서드의 경로를 테이블에 추가합니다.
+     * @param event 컨텍스트 갱신 이벤트
+     */
+    @EventListener
+    public void onContextRefreshed(ContextRefreshedEvent event) {
+        if (!WEB_MVC_PRESENT) {
+            return;
+        }
+        Map<String, RequestMappingHandlerMapping> mappings =
+                event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class);
+        if (mappings.isEmpty()) {
+            // 핸들러 매핑이 없는 (자식) 컨텍스트의 이벤트는 무시합니다.
+            return;
+        }
+        RouteAuthorizationTable.Builder builder = RouteAuthorizationTable.builder(roleHierarchy).addAll(rules);
+        mappings.values().forEach(mapping ->
+                mapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+                    RequiresRole requiresRole = handlerMethod.getMethodAnnotation(RequiresRole.class);
+                    if (requiresRole == null) {
+                        return;
+                    }
+                    UserRoleEnum[] roles = requiresRole.value();
+                    RoutePolicy policy = new RoutePolicy(false, roles.length == 1 ? roles[0] : null, roleHierarchy.allowedMask(roles));
+                    for (String pattern : info.getPatternValues()) {
+                        builder.add(pattern, policy);
+                        log.info("@RequiresRole 경로 등록 : {} -> {}", pattern, Arrays.toString(roles));
+                    }
+                }));
+        table = builder.build();
+    }
+}
@@ -1,40 +1,77 @@
 package com.sparta.jwtservletfilter.init;
 
 
-import com.sparta.jwtservletfilter.entity.User;
-import com.sparta.jwtservletfilter.entity.UserRoleEnum;
-import com.sparta.jwtservletfilter.service.UserService;
-import com.sparta.jwtservletfilter.util.PasswordEncoder;
-import jakarta.annotation.PostConstruct;
+import com.sparta.jwtservletfilter.dto.UserImportReport;
+import com.sparta.jwtservletfilter.service.UserBulkImporter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 회원정보 데이터 초기화
+ * - user.import.init-location 의 CSV 파일을 UserBulkImporter 로 일괄 등록합니다.
+ * - user.import.init-enabled=true 일 때만 실행합니다. (기본값 false, local 프로필에서만 켬)
+ * - 시작 시간에 포함되지 않도록, 애플리케이션이 준비된 뒤(ApplicationReadyEvent) 별도 스레드에서 등록합니다.
+ *   등록이 끝나기 전의 로그인 요청은 사용자를 찾지 못할 수 있습니다.
+ * - 준비 이벤트는 -Dspring.context.exit=onRefresh (CDS 학습 실행) 에서는 발생하지 않으므로, 학습 실행이 데이터를 넣지 않습니다.
+ * - 활성화 여부는 조건부 빈이 아닌 실행 시점의 속성으로 판단하므로, AOT 로 빌드한 jar 에서도 속성으로 켜고 끌 수 있습니다.
  *
  * @author JaeHwan Kim
  * @version 1.0
  * @since 1.0
  */
+@Slf4j(topic = "InitData")
 @Component
 @RequiredArgsConstructor
 public class InitData {
 
-  private final PasswordEncoder passwordEncoder;
-  private final UserService userService;
+  private final UserBulkImporter userBulkImporter;
+  private final CompletableFuture<UserImportReport> seeded = new CompletableFuture<>();
 
-  @PostConstruct
-  @Transactional
+  @Value("${user.import.init-enabled:false}")
+  private boolean enabled;
+
+  @Value("${user.import.init-location:classpath:init/users.csv}")
+  private Resource initUsers;
+
+  @EventListener(ApplicationReadyEvent.class)
   public void init() {
-    List<User> productList =
-        List.of(new User("홍길동",passwordEncoder.encode("1234"),"hong@sparta.com", UserRoleEnum.ADMIN),
-                new User("이순신",passwordEncoder.encode("1234"),"lee@sparta.com",UserRoleEnum.USER),
-                new User("신시임당",passwordEncoder.encode("1234"),"shin@sparta.com",UserRoleEnum.ADMIN));
-    for (User product : productList) {
-      userService.save(product);
+    if (!enabled) {
+      seeded.complete(null);
+      return;
+    }
+    Thread thread = new Thread(this::seed, "init-data");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /**
+   * @return 초기 데이터 등록 완료 (비활성화면 null 로 완료, 실패하면 예외로 완료)
+   */
+  public CompletableFuture<UserImportReport> seeded() {
+    return seeded;
+  }
+
+  private void seed() {
+    try (Reader reader = new InputStreamReader(initUsers.getInputStream(), StandardCharsets.UTF_8)) {
+      seeded.complete(userBulkImporter.importCsv(reader));
+    } catch (IOException e) {
+      log.error("초기 회원정보 파일을 읽을 수 없습니다. : {}", initUsers, e);
+      seeded.completeExceptionally(new UncheckedIOException(e));
+    } catch (RuntimeException e) {
+      log.error("초기 회원정보 등록에 실패했습니다. : {}", initUsers, e);
+      seeded.completeExceptionally(e);
     }
   }
 }
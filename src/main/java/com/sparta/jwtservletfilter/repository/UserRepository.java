@@ -1,7 +1,15 @@
 package com.sparta.jwtservletfilter.repository;
 
+import com.sparta.jwtservletfilter.dto.UserCredential;
 import com.sparta.jwtservletfilter.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 /**
@@ -17,4 +25,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 사용자 정보를 감싼 Optional 객체 (존재하면 User 객체, 그렇지 않으면 빈 Optional)
      */
     Optional<User> findByUsername(String username);
+
+    /**
+     * 사용자 이름으로 로그인에 필요한 정보만 조회합니다.
+     * - 엔티티가 아닌 DTO 로 바로 조회하므로, 영속성 컨텍스트 관리/변경 감지 대상이 되지 않고 email 컬럼도 읽지 않습니다.
+     * - 읽기 전용 트랜잭션에서 실행하며, 조회 전 flush 를 하지 않습니다. (FlushMode.MANUAL)
+     *
+     * @param username 사용자의 이름
+     * @return 로그인용 사용자 정보를 감싼 Optional 객체
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL"))
+    @Query("select new com.sparta.jwtservletfilter.dto.UserCredential(u.id, u.username, u.password, u.role) "
+            + "from User u where u.username = :username")
+    Optional<UserCredential> findCredentialByUsername(@Param("username") String username);
+
+    /**
+     * 비밀번호 해시를 교체합니다.
+     * - 조회 이후 비밀번호가 바뀌었다면 덮어쓰지 않도록, 기존 해시가 그대로일 때만 갱신합니다.
+     *
+     * @param id 사용자 ID
+     * @param oldPassword 조회 시점의 비밀번호 해시
+     * @param newPassword 새 비밀번호 해시
+     * @return 갱신된 행 수 (0 이면 그 사이 비밀번호가 바뀐 것)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update User u set u.password = :newPassword where u.id = :id and u.password = :oldPassword")
+    int updatePassword(@Param("id") Long id,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.util.TokenBucketTable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 로그인 시도 횟수 제한 (클라이언트 IP 별, 사용자 이름 별)
+ * - 사용자 조회(DB)와 BCrypt 검증 전에 호출하여, 한도를 넘은 시도는 비용 없이 429 로 거절합니다.
+ * - IP 한도는 한 클라이언트가 노드에 밀어 넣을 수 있는 BCrypt 작업량을, 사용자 이름 한도는 한 계정에 대한 대입 공격을 제한합니다.
+ * - 키별 상태는 고정 크기 TokenBucketTable 에 저장하므로, 서로 다른 키가 수백만 개여도 메모리가 늘지 않습니다.
+ * - 노드별 제한입니다. (여러 노드의 한도를 합치지 않음)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "LoginRateLimiter")
+@Component
+public class LoginRateLimiter {
+
+    private final boolean enabled;
+    private final TokenBucketTable clientBuckets;
+    private final TokenBucketTable usernameBuckets;
+    private final Counter clientRejected;
+    private final Counter usernameRejected;
+
+    @Autowired
+    public LoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${login.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${login.rate-limit.slots:65536}") int slots,
+                            @Value("${login.rate-limit.client.burst:20}") int clientBurst,
+                            @Value("${login.rate-limit.client.interval-ms:500}") long clientIntervalMs,
+                            @Value("${login.rate-limit.username.burst:5}") int usernameBurst,
+                            @Value("${login.rate-limit.username.interval-ms:12000}") long usernameIntervalMs) {
+        this(meterRegistry, enabled, slots, clientBurst, clientIntervalMs, usernameBurst, usernameIntervalMs,
+                System::currentTimeMillis);
+    }
+
+    public LoginRateLimiter(MeterRegistry meterRegistry, boolean enabled, int slots,
+                            int clientBurst, long clientIntervalMs,
+                            int usernameBurst, long usernameIntervalMs,
+                            LongSupplier clock) {
+        this.enabled = enabled;
+        this.clientBuckets = new TokenBucketTable(slots, clientBurst, clientIntervalMs, clock);
+        this.usernameBuckets = new TokenBucketTable(slots, usernameBurst, usernameIntervalMs, clock);
+        this.clientRejected = rejectedCounter(meterRegistry, "client");
+        this.usernameRejected = rejectedCounter(meterRegistry, "username");
+        log.info("로그인 횟수 제한 : enabled={}, client={}회/{}ms, username={}회/{}ms, slots={}",
+                enabled, clientBurst, clientIntervalMs, usernameBurst, usernameIntervalMs, slots);
+    }
+
+    /**
+     * 로그인 시도를 허용할지 확인합니다.
+     * - IP 한도를 먼저 확인하므로, IP 한도를 넘은 클라이언트는 사용자 이름 한도를 소모시키지 못합니다.
+     * @param clientAddress 클라이언트 주소 (request.getRemoteAddr, 신뢰하는 프록시 뒤에서는 RemoteIpValve 가 X-Forwarded-For 로 바꾼 값)
+     * @param username 로그인 요청의 사용자 이름
+     * @throws ResponseStatusException 한도를 넘은 경우 (429 Too Many Requests)
+     */
+    public void check(String clientAddress, String username) {
+        if (!enabled) {
+            return;
+        }
+        if (clientBuckets.tryAcquire(clientAddress != null ? clientAddress : "") > 0) {
+            clientRejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+        if (usernameBuckets.tryAcquire(username != null ? username : "") > 0) {
+            usernameRejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String key) {
+        return Counter.builder("login.rate-limited")
+                .description("횟수 제한으로 거절된 로그인 시도")
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+}
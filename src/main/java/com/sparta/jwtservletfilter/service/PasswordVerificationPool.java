@@ -0,0 +1,209 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.util.PasswordEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 비밀번호 검증 전용 스레드 풀
+ * - BCrypt 는 의도적으로 CPU 를 많이 쓰므로, 톰캣 요청 스레드가 아닌 크기가 제한된 전용 풀에서 실행합니다.
+ * - 대기열이 가득 차면 기다리지 않고 즉시 503 으로 거절하여(load shedding), 다른 API 의 요청 스레드를 보호합니다.
+ * - 대기열 길이, 대기 시간, 검증 시간, 거절 횟수를 메트릭으로 노출합니다. (/actuator/metrics)
+ * - 가상 스레드 모드(spring.threads.virtual.enabled=true, Java 21)에서는 요청 스레드를 막아도 비용이 작으므로,
+ *   풀로 넘기지 않고 요청(가상) 스레드에서 바로 검증하되 세마포어로 동시 실행 수를 제한합니다.
+ *   CPU 를 오래 쓰는 BCrypt 가 모든 캐리어 스레드를 차지하지 않도록, 기본 허용 수는 코어 수 - 1 입니다.
+ *   세마포어를 기다리는 가상 스레드는 캐리어에서 내려가므로(park) 다른 요청의 처리를 막지 않습니다.
+ * - 풀 스레드에서 실행되는 작업에도 요청 스레드의 MDC(requestId, user)를 복사합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "PasswordVerificationPool")
+@Component
+public class PasswordVerificationPool {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits; // 가상 스레드 모드의 동시 검증 수 제한 (풀 모드에서는 null)
+    private final int threads;
+    private final int queueCapacity;
+    private final Timer waitTimer; // 대기열에서 기다린 시간
+    private final Timer verifyTimer; // BCrypt 검증에 걸린 시간
+    private final Counter rejectedCounter; // 대기열 초과로 거절된 횟수
+
+    public PasswordVerificationPool(PasswordEncoder passwordEncoder,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${login.verification.pool-size:0}") int poolSize,
+                                    @Value("${login.verification.queue-capacity:64}") int queueCapacity,
+                                    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.passwordEncoder = passwordEncoder;
+        this.queueCapacity = queueCapacity;
+        int cores = Runtime.getRuntime().availableProcessors();
+        // 가상 스레드는 Java 21 부터 사용 가능 (그 이전 버전에서는 설정을 무시하고 풀 모드로 동작)
+        boolean inline = virtualThreads && Runtime.version().feature() >= 21;
+        // 0 이면 CPU 코어 수만큼 사용 (가상 스레드 모드에서는 캐리어 하나를 남기기 위해 코어 수 - 1)
+        this.threads = poolSize > 0 ? poolSize : inline ? Math.max(1, cores - 1) : cores;
+        this.permits = inline ? new Semaphore(threads, true) : null;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("login.verification.queue.depth", this, PasswordVerificationPool::queueDepth)
+                .description("BCrypt 검증 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("login.verification.active", this, PasswordVerificationPool::active)
+                .description("BCrypt 검증 중인 스레드 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("login.verification.wait")
+                .description("BCrypt 검증 대기 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("login.verification.latency")
+                .description("BCrypt 검증 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("login.verification.rejected")
+                .description("대기열 초과로 거절된 검증 요청 수")
+                .register(meterRegistry);
+        log.info("BCrypt 검증 풀 : mode={}, threads={}, queueCapacity={}", inline ? "semaphore" : "pool", threads, queueCapacity);
+    }
+
+    /**
+     * 비밀번호 검증을 전용 풀에 맡깁니다.
+     * @param rawPassword 원문 비밀번호
+     * @param encodedPassword 암호화된 비밀번호
+     * @return 일치 여부를 담은 CompletableFuture
+     * @throws ResponseStatusException 대기열이 가득 찬 경우 (503 Service Unavailable)
+     */
+    public CompletableFuture<Boolean> verify(String rawPassword, String encodedPassword) {
+        long enqueuedAt = System.nanoTime();
+        if (permits != null) {
+            return CompletableFuture.completedFuture(verifyInline(rawPassword, encodedPassword, enqueuedAt));
+        }
+        try {
+            return CompletableFuture.supplyAsync(withMdc(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            }), executor);
+        } catch (RejectedExecutionException e) {
+            throw rejected();
+        }
+    }
+
+    /**
+     * 가상 스레드 모드: 호출 스레드에서 세마포어를 얻은 뒤 검증합니다.
+     * - 이미 대기 중인 스레드가 대기열 크기 이상이면 기다리지 않고 거절합니다. (풀 모드의 대기열 초과와 같음)
+     */
+    private boolean verifyInline(String rawPassword, String encodedPassword, long enqueuedAt) {
+        if (permits.getQueueLength() >= queueCapacity) {
+            throw rejected();
+        }
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw rejected();
+        }
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            return passwordEncoder.matches(rawPassword, encodedPassword);
+        } finally {
+            verifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            permits.release();
+        }
+    }
+
+    /**
+     * 응답과 무관한 백그라운드 작업(예: 비밀번호 재암호화)을 풀에 맡깁니다.
+     * - 로그인 검증보다 우선하지 않도록, 대기열이 가득 차면 거절 없이 건너뜁니다. (다음 로그인 때 다시 시도)
+     * @param task 작업
+     * @return 작업 등록 여부
+     */
+    public boolean submitBackground(Runnable task) {
+        Runnable guarded = permits == null ? task : () -> {
+            // 가상 스레드 모드에서도 BCrypt 동시 실행 수는 세마포어로 제한합니다.
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        };
+        try {
+            executor.execute(withMdc(guarded));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    private ResponseStatusException rejected() {
+        rejectedCounter.increment();
+        return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private double queueDepth() {
+        return permits != null ? permits.getQueueLength() : executor.getQueue().size();
+    }
+
+    private double active() {
+        return permits != null ? threads - permits.availablePermits() : executor.getActiveCount();
+    }
+
+    /**
+     * 제출한 스레드의 MDC 를 작업 스레드에 복사합니다. (풀 스레드는 재사용되므로 끝나면 지움)
+     */
+    private static <T> Supplier<T> withMdc(Supplier<T> task) {
+        Map<String, String> context = MDC.getCopyOfContextMap();
+        return () -> {
+            if (context != null) {
+                MDC.setContextMap(context);
+            }
+            try {
+                return task.get();
+            } finally {
+                MDC.clear();
+            }
+        };
+    }
+
+    private static Runnable withMdc(Runnable task) {
+        Supplier<Void> supplier = withMdc(() -> {
+            task.run();
+            return null;
+        });
+        return supplier::get;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
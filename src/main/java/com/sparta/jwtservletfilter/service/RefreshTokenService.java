@@ -0,0 +1,157 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.dto.RefreshFamily;
+import com.sparta.jwtservletfilter.util.RefreshTokenStore;
+import com.sparta.jwtservletfilter.util.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+/**
+ * 리프레시 토큰 발급/교체(rotation)
+ * - 리프레시 토큰은 "family ID.32바이트 난수(Base64URL)" 이며, 서버는 원문 대신 SHA-256 해시만 보관합니다.
+ * - 사용할 때마다 새 토큰으로 교체하고, family 의 최신 토큰 해시만 새 값으로 바꿉니다. (교체마다 항목이 늘지 않음)
+ * - 최신이 아닌 토큰(이미 교체된 토큰)이 오면 탈취로 보고(reuse detection), family 전체를 폐기합니다.
+ * - 저장소(RefreshTokenStore)를 공유하면 어느 노드로 요청이 가도 교체할 수 있습니다.
+ *   (포함된 구현은 프로세스 내부 저장소뿐이며, 공유 저장소는 RefreshTokenStore 빈을 등록해 사용)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "RefreshTokenService")
+@Component
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final char SEPARATOR = '.';
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenStore store; // family 저장소
+    private final long ttlMs; // 리프레시 토큰 유효 시간
+    private final LongSupplier clock; // 현재 시간 (밀리초)
+    private final Counter reuseCounter; // 재사용이 감지된 횟수
+
+    @Autowired
+    public RefreshTokenService(RefreshTokenStore store, MeterRegistry meterRegistry,
+                               @Value("${jwt.refresh.ttl-ms:1209600000}") long ttlMs) {
+        this(store, meterRegistry, ttlMs, System::currentTimeMillis);
+    }
+
+    public RefreshTokenService(RefreshTokenStore store, MeterRegistry meterRegistry, long ttlMs, LongSupplier clock) {
+        this.store = store;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.reuseCounter = Counter.builder("jwt.refresh.reuse")
+                .description("재사용이 감지되어 폐기된 리프레시 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시 새 family 의 리프레시 토큰을 발급합니다.
+     * @param username 사용자 이름
+     * @return 리프레시 토큰
+     */
+    public String issue(String username) {
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = newToken(familyId);
+        store.save(new RefreshFamily(familyId, username, TokenDigest.sha256(refreshToken), clock.getAsLong() + ttlMs, false));
+        return refreshToken;
+    }
+
+    /**
+     * 리프레시 토큰을 사용하고 새 토큰으로 교체합니다.
+     * @param refreshToken 클라이언트가 보낸 리프레시 토큰
+     * @return 교체 결과 (사용자 이름, 새 리프레시 토큰)
+     * @throws ResponseStatusException 없거나 만료되었거나 재사용된 토큰 (401)
+     */
+    public Rotation rotate(String refreshToken) {
+        RefreshFamily current = findFamily(refreshToken);
+        long now = clock.getAsLong();
+        if (current == null || current.expiresAt() <= now || current.revoked()) {
+            throw unauthorized();
+        }
+        // 교체는 CAS 로 한 번만 성공하므로, 동시에 같은 토큰이 두 번 오면(다른 노드 포함) 한쪽은 재사용으로 처리됩니다.
+        // 최신 토큰이 아니면(이미 교체된 이전 토큰) 재사용입니다.
+        String next = newToken(current.familyId());
+        if (!current.tokenHash().equals(TokenDigest.sha256(refreshToken))
+                || !store.replace(current, current.rotate(TokenDigest.sha256(next), now + ttlMs))) {
+            revokeFamily(current.familyId());
+            reuseCounter.increment();
+            log.warn("리프레시 토큰 재사용 감지, family 폐기 : {}", current.username());
+            throw unauthorized();
+        }
+        return new Rotation(current.username(), next);
+    }
+
+    /**
+     * 리프레시 토큰과 같은 family 의 토큰을 모두 폐기합니다. (로그아웃)
+     * - family ID 는 토큰 앞부분이라 추측하기 쉬우므로, 토큰 전체가 family 의 최신 토큰과 같고
+     *   family 의 사용자가 로그아웃한 사용자와 같을 때만 폐기합니다. (남의 세션을 끊지 못하게 함)
+     * @param principal 로그아웃을 요청한 사용자
+     * @param refreshToken 리프레시 토큰
+     * @return 폐기했으면 true, 토큰이 없거나 최신 토큰이 아니거나 다른 사용자의 토큰이면 false
+     */
+    public boolean revoke(JwtPrincipal principal, String refreshToken) {
+        RefreshFamily current = findFamily(refreshToken);
+        if (current == null
+                || !current.username().equals(principal.username())
+                || !current.tokenHash().equals(TokenDigest.sha256(refreshToken))) {
+            return false;
+        }
+        revokeFamily(current.familyId());
+        return true;
+    }
+
+    /**
+     * 만료된 family 를 정리합니다. (폐기된 family 도 마지막 토큰이 만료된 뒤에 정리)
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.cleanup-interval-ms:600000}")
+    public void purgeExpired() {
+        store.purgeExpired(clock.getAsLong());
+    }
+
+    private RefreshFamily findFamily(String refreshToken) {
+        int separator = refreshToken.indexOf(SEPARATOR);
+        return separator > 0 ? store.find(refreshToken.substring(0, separator)) : null;
+    }
+
+    private String newToken(String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return familyId + SEPARATOR + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private void revokeFamily(String familyId) {
+        // family 의 마지막 토큰이 만료될 때까지 폐기 상태로 남겨, 이전 토큰이 다시 와도 거절합니다.
+        RefreshFamily current;
+        do {
+            current = store.find(familyId);
+        } while (current != null && !current.revoked() && !store.replace(current, current.revoke()));
+    }
+
+    private static ResponseStatusException unauthorized() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다.");
+    }
+
+    /**
+     * 리프레시 토큰 교체 결과
+     *
+     * @param username     사용자 이름
+     * @param refreshToken 새 리프레시 토큰
+     */
+    public record Rotation(String username, String refreshToken) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.dto.UserImportReport;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.util.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 사용자 일괄 등록기
+ * - User 엔티티는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 동작하지 않으므로, JDBC 배치 INSERT 로 직접 등록합니다.
+ * - 파일을 한 줄씩 읽어 청크 단위로 처리하므로, 전체 목록을 메모리에 올리지 않습니다.
+ * - 청크마다 비밀번호를 여러 코어에서 병렬로 암호화한 뒤, 청크 하나를 트랜잭션 하나로 커밋합니다.
+ * - 실패하면 해당 청크만 롤백되고 예외가 전파됩니다. (이전 청크는 이미 커밋된 상태)
+ *
+ * 입력 형식 (UTF-8 CSV, 따옴표/쉼표 이스케이프 미지원)
+ * <pre>
+ * username,password,email,role
+ * 홍길동,1234,hong@sparta.com,ADMIN
+ * </pre>
+ * - password 가 이미 BCrypt 해시라면 다시 암호화하지 않고 그대로 저장합니다. (다른 시스템에서 이관 시)
+ * - 첫 줄이 username 으로 시작하면 헤더로 보고 건너뜁니다. 빈 줄과 # 으로 시작하는 줄도 건너뜁니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "UserBulkImporter")
+@Component
+public class UserBulkImporter {
+
+    private static final String INSERT_SQL = "insert into users (username, password, email, role) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final UserCredentialCache userCredentialCache;
+    private final int chunkSize; // 트랜잭션 하나에 담을 행 수
+    private final int parallelism; // 비밀번호 암호화 병렬도
+
+    public UserBulkImporter(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            PasswordEncoder passwordEncoder,
+                            UserCredentialCache userCredentialCache,
+                            @Value("${user.import.chunk-size:1000}") int chunkSize,
+                            @Value("${user.import.parallelism:0}") int parallelism) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.userCredentialCache = userCredentialCache;
+        this.chunkSize = chunkSize;
+        // 0 이면 CPU 코어 수만큼 사용
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * CSV 파일에서 사용자를 일괄 등록합니다.
+     * @param file CSV 파일 경로
+     * @return 등록 결과
+     */
+    public UserImportReport importCsv(Path file) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return importCsv(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 파일을 읽을 수 없습니다. : " + file, e);
+        }
+    }
+
+    /**
+     * CSV 스트림에서 사용자를 일괄 등록합니다.
+     * @param source CSV 입력 (호출한 쪽에서 닫습니다)
+     * @return 등록 결과
+     */
+    public UserImportReport importCsv(Reader source) {
+        BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        long startedAt = System.nanoTime();
+        long rows = 0;
+        int chunks = 0;
+        ForkJoinPool hashPool = new ForkJoinPool(parallelism);
+        try {
+            List<String[]> chunk = new ArrayList<>(chunkSize);
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#") || (lineNumber == 1 && line.startsWith("username"))) {
+                    continue;
+                }
+                chunk.add(parse(line, lineNumber));
+                if (chunk.size() == chunkSize) {
+                    rows += insert(chunk, hashPool);
+                    chunks++;
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                rows += insert(chunk, hashPool);
+                chunks++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 파일을 읽는 중 오류가 발생했습니다.", e);
+        } finally {
+            hashPool.shutdown();
+            // 새로 등록된 사용자 이름이 negative 캐시에 남아 있지 않도록 정리합니다.
+            userCredentialCache.invalidateAll();
+        }
+
+        UserImportReport report = new UserImportReport(rows, chunks, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("사용자 일괄 등록 완료 : {} rows, {} chunks, {} ms ({} rows/sec)",
+                report.rows(), report.chunks(), report.elapsedMs(), String.format("%.1f", report.rowsPerSecond()));
+        return report;
+    }
+
+    /**
+     * 청크의 비밀번호를 병렬로 암호화한 뒤, 트랜잭션 하나로 배치 INSERT 합니다.
+     */
+    private int insert(List<String[]> chunk, ForkJoinPool hashPool) {
+        // parallelStream 은 자신을 실행한 ForkJoinPool 에서 분할 실행되므로, 공용 풀 대신 전용 풀에서 실행합니다.
+        List<Object[]> batchArgs = hashPool.submit(() -> chunk.parallelStream()
+                .map(row -> new Object[]{row[0], encode(row[1]), row[2], row[3]})
+                .toList()).join();
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+        return batchArgs.size();
+    }
+
+    private String encode(String password) {
+        return passwordEncoder.isEncoded(password) ? password : passwordEncoder.encode(password);
+    }
+
+    private static String[] parse(String line, long lineNumber) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 4) {
+            throw new IllegalArgumentException(lineNumber + "번째 줄의 형식이 올바르지 않습니다. (username,password,email,role)");
+        }
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].trim();
+        }
+        columns[3] = UserRoleEnum.valueOf(columns[3]).name(); // 역할 이름 검증
+        return columns;
+    }
+}
@@ -0,0 +1,106 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.dto.UserCredential;
+import com.sparta.jwtservletfilter.repository.UserRepository;
+import com.sparta.jwtservletfilter.util.EvictionPolicy;
+import com.sparta.jwtservletfilter.util.ExpiringCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 로그인용 사용자 정보(UserCredential)의 read-through 캐시
+ * - 캐시에 없으면 UserRepository 에서 조회하여 TTL 동안 보관합니다.
+ * - 존재하지 않는 사용자 이름도 짧은 TTL 로 캐시하여(negative caching), 무작위 계정 대입 공격이 DB 부하로 이어지지 않게 합니다.
+ * - 사용자 저장/비밀번호 변경 시 invalidate 로 해당 항목을 제거합니다. (다른 인스턴스의 변경은 TTL 이 지나야 반영됩니다)
+ * - 조회한 사용자 이름과 저장된 사용자 이름이 정확히 같을 때만 캐시합니다. (DB 콜레이션이 대소문자를 무시하는 경우 invalidate 누락 방지)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "UserCredentialCache")
+@Component
+public class UserCredentialCache {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long ttlMs; // 존재하는 사용자 항목의 유효 시간
+    private final long negativeTtlMs; // 존재하지 않는 사용자 항목의 유효 시간
+    private final ExpiringCache<String, Optional<UserCredential>> cache;
+
+    public UserCredentialCache(UserRepository userRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${user.credential-cache.enabled:true}") boolean enabled,
+                               @Value("${user.credential-cache.max-size:10000}") int maxSize,
+                               @Value("${user.credential-cache.ttl-ms:60000}") long ttlMs,
+                               @Value("${user.credential-cache.negative-ttl-ms:5000}") long negativeTtlMs) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.ttlMs = ttlMs;
+        this.negativeTtlMs = negativeTtlMs;
+        this.cache = new ExpiringCache<>(maxSize, EvictionPolicy.LEAST_RECENTLY_USED);
+
+        FunctionCounter.builder("user.credential.cache.hits", cache, c -> c.stats().hits()).register(meterRegistry);
+        FunctionCounter.builder("user.credential.cache.misses", cache, c -> c.stats().misses()).register(meterRegistry);
+        FunctionCounter.builder("user.credential.cache.evictions", cache, c -> c.stats().evictions()).register(meterRegistry);
+        Gauge.builder("user.credential.cache.size", cache, c -> c.stats().size()).register(meterRegistry);
+    }
+
+    /**
+     * 사용자 이름으로 로그인용 사용자 정보를 조회합니다.
+     * @param username 사용자 이름
+     * @return 사용자 정보 (없거나, 사용자 이름이 null/공백이면 빈 Optional)
+     */
+    public Optional<UserCredential> find(String username) {
+        if (username == null || username.isBlank()) {
+            return Optional.empty(); // 캐시(ConcurrentHashMap)는 null 키를 받지 않고, 조회할 필요도 없음
+        }
+        if (!enabled) {
+            return load(username);
+        }
+        Optional<UserCredential> cached = cache.get(username);
+        if (cached != null) {
+            return cached;
+        }
+        Optional<UserCredential> loaded = load(username);
+        if (loaded.isEmpty()) {
+            cache.put(username, loaded, System.currentTimeMillis() + negativeTtlMs);
+        } else if (loaded.get().username().equals(username)) {
+            cache.put(username, loaded, System.currentTimeMillis() + ttlMs);
+        }
+        return loaded;
+    }
+
+    /**
+     * 사용자 정보가 바뀌었을 때 캐시 항목을 제거합니다.
+     * @param username 사용자 이름
+     */
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    /**
+     * 캐시의 모든 항목을 제거합니다. (일괄 등록 후 negative 항목 정리)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     * @return 적중/실패/제거 횟수와 현재 크기
+     */
+    public ExpiringCache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    private Optional<UserCredential> load(String username) {
+        return userRepository.findCredentialByUsername(username);
+    }
+}
@@ -1,12 +1,20 @@
 package com.sparta.jwtservletfilter.service;
 
 import com.sparta.jwtservletfilter.dto.RequestDto;
+import com.sparta.jwtservletfilter.dto.TokenPair;
+import com.sparta.jwtservletfilter.dto.UserCredential;
 import com.sparta.jwtservletfilter.entity.User;
 import com.sparta.jwtservletfilter.repository.UserRepository;
+import com.sparta.jwtservletfilter.util.AuthMetrics;
 import com.sparta.jwtservletfilter.util.JwtUtil;
 import com.sparta.jwtservletfilter.util.PasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 사용자 관련 비즈니스 로직을 처리하는 서비스 클래스.
@@ -17,6 +25,7 @@ import org.springframework.stereotype.Service;
  * @version 1.0
  * @since 1.0
  */
+@Slf4j(topic = "UserService")
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -24,6 +33,10 @@ public class UserService {
     private final UserRepository userRepository;  // 사용자 정보를 저장 및 조회하기 위한 리포지토리
     private final PasswordEncoder passwordEncoder; // 비밀번호 암호화 및 검증을 위한 클래스
     private final JwtUtil jwtUtil; // JWT 토큰 생성 및 검증을 위한 유틸리티 클래스
+    private final PasswordVerificationPool passwordVerificationPool; // BCrypt 검증 전용 스레드 풀
+    private final UserCredentialCache userCredentialCache; // 로그인용 사용자 정보 캐시
+    private final RefreshTokenService refreshTokenService; // 리프레시 토큰 발급/교체
+    private final AuthMetrics authMetrics; // 로그인 처리 시간 메트릭
 
     /**
      * 사용자 정보를 저장합니다.
@@ -32,35 +45,88 @@ public class UserService {
      * @return 저장된 사용자 엔티티
      */
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        userCredentialCache.invalidate(saved.getUsername());
+        return saved;
     }
 
     /**
-     * 사용자 로그인을 처리하고 JWT 토큰을 생성합니다.
+     * 사용자 로그인을 비동기로 처리하고 JWT 토큰을 생성합니다.
+     * - 사용자 조회는 호출 스레드에서, BCrypt 검증은 전용 스레드 풀에서 수행합니다.
+     * - 조회부터 토큰 발급까지의 시간을 성공/실패별로 auth.login 에 기록합니다.
      *
      * @param requestDto 로그인 요청 정보 (사용자 이름 및 비밀번호 포함)
-     * @return 로그인 결과를 담은 ResponseEntity 객체
+     * @return JWT 토큰과 리프레시 토큰을 담은 CompletableFuture
+     * @throws ResponseStatusException 검증 풀이 포화 상태인 경우 (503)
      */
-    public String login(RequestDto requestDto) {
+    public CompletableFuture<TokenPair> loginAsync(RequestDto requestDto) {
+        long startedAt = System.nanoTime();
         String username = requestDto.getUsername(); // 요청에서 사용자 이름을 추출
         String password = requestDto.getPassword(); // 요청에서 비밀번호를 추출
 
-        // 사용자 확인
-        // 사용자 이름으로 사용자 정보를 조회하고, 없으면 예외를 던집니다.
-        User user = userRepository.findByUsername(username).orElseThrow(
-                () -> new IllegalArgumentException("등록된 사용자가 없습니다.")
-        );
+        // 사용자 확인 (캐시 우선)
+        UserCredential user = userCredentialCache.find(username).orElse(null);
+        if (user == null) {
+            authMetrics.recordLogin(false, startedAt);
+            throw new IllegalArgumentException("등록된 사용자가 없습니다.");
+        }
 
-        // 비밀번호 확인
-        // 입력된 비밀번호와 데이터베이스에 저장된 비밀번호를 비교합니다.
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+        // 비밀번호 확인 (전용 스레드 풀) 후 JWT 생성
+        CompletableFuture<Boolean> verification;
+        try {
+            verification = passwordVerificationPool.verify(password, user.password());
+        } catch (ResponseStatusException e) {
+            authMetrics.recordLogin(false, startedAt);
+            throw e;
         }
+        return verification.thenApply(matched -> {
+            if (!matched) {
+                throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
+            }
+            rehashIfNeeded(user, password);
+            return new TokenPair(jwtUtil.generateToken(user.username(), user.role()), refreshTokenService.issue(user.username()));
+        }).whenComplete((tokens, failure) -> authMetrics.recordLogin(failure == null, startedAt));
+    }
 
-        // JWT 생성 및 헤더에 저장
-        // JWT를 생성하여 사용자의 이름과 역할을 포함시킵니다.
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole());
+    /**
+     * 리프레시 토큰으로 새 JWT 토큰을 발급합니다.
+     * - 비밀번호 검증(BCrypt) 없이, 리프레시 토큰 교체와 사용자 정보 조회(캐시 우선)만 수행합니다.
+     * - 역할은 토큰이 아닌 현재 사용자 정보에서 읽으므로, 역할 변경이 갱신 시점에 반영됩니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 새 JWT 토큰과 새 리프레시 토큰
+     * @throws ResponseStatusException 리프레시 토큰이 유효하지 않거나 사용자가 없는 경우 (401)
+     */
+    public TokenPair refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        UserCredential user = userCredentialCache.find(rotation.username()).orElseThrow(
+                () -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "등록된 사용자가 없습니다.")
+        );
+        return new TokenPair(jwtUtil.generateToken(user.username(), user.role()), rotation.refreshToken());
+    }
 
-        return token;
+    /**
+     * 저장된 해시의 비용이 현재 설정과 다르면, 백그라운드에서 재암호화합니다.
+     * - 로그인 응답은 기다리지 않으며, 풀이 바쁘면 다음 로그인 때 다시 시도합니다.
+     *
+     * @param user 로그인에 성공한 사용자
+     * @param rawPassword 검증이 끝난 원문 비밀번호
+     */
+    private void rehashIfNeeded(UserCredential user, String rawPassword) {
+        String oldPassword = user.password();
+        if (!passwordEncoder.needsRehash(oldPassword)) {
+            return;
+        }
+        passwordVerificationPool.submitBackground(() -> {
+            try {
+                int updated = userRepository.updatePassword(user.id(), oldPassword, passwordEncoder.encode(rawPassword));
+                if (updated > 0) {
+                    userCredentialCache.invalidate(user.username());
+                    log.info("비밀번호 재암호화 완료 : {} (cost={})", user.username(), passwordEncoder.cost());
+                }
+            } catch (RuntimeException e) {
+                log.warn("비밀번호 재암호화 실패 : {}", user.username(), e);
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.sparta.jwtservletfilter.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 경로 메트릭 (/actuator/metrics, /actuator/prometheus)
+ * - jwt.filter{outcome,status} : JwtFilter 결과별 처리 시간 (count 가 곧 결과별 요청 수)
+ * - jwt.token.parse : 토큰 파싱 전체 시간 (캐시 적중 포함)
+ * - jwt.token.verify : 서명 검증 시간 (캐시 미스일 때만)
+ * - jwt.token.rejected{reason} : 검증 실패 사유별 횟수
+ * - auth.login{result} : 로그인 전체 시간 (사용자 조회 + BCrypt + 발급)
+ * - 모든 미터는 생성 시 한 번만 등록하고 배열로 보관하므로, 요청 중에는 조회/태그 생성 없이 기록만 합니다.
+ *   (Micrometer 의 카운터/타이머는 LongAdder 등 락 없는 누산기로 기록됩니다)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class AuthMetrics {
+
+    /**
+     * JwtFilter 처리 결과
+     */
+    public enum Outcome {
+        ACCEPTED(200),      // 인증/인가 통과
+        PUBLIC(200),        // 인증이 필요 없는 경로
+        MISSING_TOKEN(401), // Authorization 헤더 없음
+        INVALID_TOKEN(401), // 검증 실패 (사유는 jwt.token.rejected)
+        REVOKED(401),       // 폐기된 토큰
+        FORBIDDEN(403);     // 권한 없음
+
+        private final int status;
+
+        Outcome(int status) {
+            this.status = status;
+        }
+
+        /**
+         * @return 이 결과의 HTTP 상태 코드
+         */
+        public int status() {
+            return status;
+        }
+
+        /**
+         * @return 다음 필터/핸들러로 진행하는 결과인지 여부
+         */
+        public boolean proceeds() {
+            return this == ACCEPTED || this == PUBLIC;
+        }
+    }
+
+    private final Timer[] filterTimers;
+    private final Counter[] rejectCounters;
+    private final Timer parseTimer;
+    private final Timer verifyTimer;
+    private final Timer loginSuccessTimer;
+    private final Timer loginFailureTimer;
+
+    public AuthMetrics(MeterRegistry registry) {
+        Outcome[] outcomes = Outcome.values();
+        filterTimers = new Timer[outcomes.length];
+        for (Outcome outcome : outcomes) {
+            filterTimers[outcome.ordinal()] = Timer.builder("jwt.filter")
+                    .description("JwtFilter 처리 시간")
+                    .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                    .tag("status", String.valueOf(outcome.status))
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+        TokenRejectReason[] reasons = TokenRejectReason.values();
+        rejectCounters = new Counter[reasons.length];
+        for (TokenRejectReason reason : reasons) {
+            rejectCounters[reason.ordinal()] = Counter.builder("jwt.token.rejected")
+                    .description("토큰 검증 실패 횟수")
+                    .tag("reason", reason.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        parseTimer = Timer.builder("jwt.token.parse")
+                .description("토큰 파싱 시간 (캐시 적중 포함)")
+                .publishPercentileHistogram()
+                .register(registry);
+        verifyTimer = Timer.builder("jwt.token.verify")
+                .description("토큰 서명 검증 시간")
+                .publishPercentileHistogram()
+                .register(registry);
+        loginSuccessTimer = loginTimer(registry, "success");
+        loginFailureTimer = loginTimer(registry, "failure");
+    }
+
+    /**
+     * 아무것도 기록하지 않는 메트릭 (스프링 컨텍스트 밖에서 JwtUtil 등을 직접 생성한 경우)
+     * @return 기록하지 않는 AuthMetrics
+     */
+    public static AuthMetrics noop() {
+        // 하위 레지스트리가 없는 CompositeMeterRegistry 는 no-op 미터를 반환합니다.
+        return new AuthMetrics(new CompositeMeterRegistry());
+    }
+
+    public void recordFilter(Outcome outcome, long startNanos) {
+        filterTimers[outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejected(TokenRejectReason reason) {
+        rejectCounters[reason.ordinal()].increment();
+    }
+
+    public void recordParse(long startNanos) {
+        parseTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordVerify(long startNanos) {
+        verifyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordLogin(boolean success, long startNanos) {
+        (success ? loginSuccessTimer : loginFailureTimer).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Timer loginTimer(MeterRegistry registry, String result) {
+        return Timer.builder("auth.login")
+                .description("로그인 처리 시간")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
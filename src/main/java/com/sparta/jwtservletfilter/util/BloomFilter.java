@@ -0,0 +1,96 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 블룸 필터
+ * - mightContain 이 false 이면 확실히 없는 값이므로, 대부분의 조회를 해시 계산 몇 번으로 끝냅니다.
+ * - true 는 "있을 수도 있음" 이므로, 호출자는 실제 집합을 다시 확인해야 합니다.
+ * - 비트 배열은 AtomicLongArray 이므로 put/mightContain 을 락 없이 동시에 호출할 수 있습니다.
+ * - 값을 제거할 수 없으므로, 오래된 값을 지우려면 새 필터를 만들어 교체합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param falsePositiveRate 목표 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("expectedInsertions 는 0보다 크고, falsePositiveRate 는 0 ~ 1 사이여야 합니다.");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (bits + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = wordCount * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+    }
+
+    /**
+     * 값을 추가합니다.
+     * @param value 값
+     */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            long current = words.get(word);
+            while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+                current = words.get(word);
+            }
+        }
+    }
+
+    /**
+     * 값이 있을 수도 있는지 확인합니다.
+     * @param value 값
+     * @return false 이면 확실히 없음, true 이면 있을 수도 있음
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        // 음수가 되지 않도록 부호 비트를 뒤집은 뒤 비트 수로 나눈 나머지를 사용합니다.
+        return (combined < 0 ? ~combined : combined) % bitCount;
+    }
+
+    /**
+     * FNV-1a(64) 후 MurmurHash3 fmix64 로 비트를 섞습니다. 상·하위 32비트를 두 개의 해시로 사용합니다. (double hashing)
+     */
+    static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.Locale;
+
+/**
+ * ExpiringCache 가 용량을 넘었을 때 어떤 항목부터 제거할지 정하는 정책
+ * - score 가 낮은 항목부터 제거됩니다.
+ * - 필요하면 람다로 직접 구현하여 캐시에 전달할 수 있습니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface EvictionPolicy {
+
+    // 만료가 가장 임박한 항목부터 제거 (토큰처럼 수명이 정해진 값에 적합)
+    EvictionPolicy EARLIEST_EXPIRY = ExpiringCache.Entry::expiresAt;
+    // 가장 오래 사용되지 않은 항목부터 제거
+    EvictionPolicy LEAST_RECENTLY_USED = ExpiringCache.Entry::lastAccessAt;
+    // 가장 먼저 저장된 항목부터 제거
+    EvictionPolicy OLDEST_FIRST = ExpiringCache.Entry::createdAt;
+
+    /**
+     * 제거 우선순위 점수를 계산합니다.
+     * @param entry 캐시 항목
+     * @return 점수 (낮을수록 먼저 제거)
+     */
+    long score(ExpiringCache.Entry<?> entry);
+
+    /**
+     * 설정 값(이름)으로 기본 제공 정책을 찾습니다.
+     * @param name 정책 이름 (EARLIEST_EXPIRY, LEAST_RECENTLY_USED, OLDEST_FIRST)
+     * @return 정책
+     */
+    static EvictionPolicy of(String name) {
+        return switch (name.trim().toUpperCase(Locale.ROOT)) {
+            case "EARLIEST_EXPIRY" -> EARLIEST_EXPIRY;
+            case "LEAST_RECENTLY_USED", "LRU" -> LEAST_RECENTLY_USED;
+            case "OLDEST_FIRST", "FIFO" -> OLDEST_FIRST;
+            default -> throw new IllegalArgumentException("지원하지 않는 캐시 제거 정책입니다: " + name);
+        };
+    }
+}
@@ -0,0 +1,205 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 항목별 만료 시간을 가지는 크기 제한 캐시
+ * - 조회/저장은 ConcurrentHashMap 위에서 락 없이 수행됩니다.
+ * - 최대 크기를 넘으면 만료된 항목을 먼저 정리하고, 그래도 넘치면 EvictionPolicy 순서대로 한꺼번에 제거합니다.
+ * - 적중/실패/제거 횟수는 LongAdder 로 집계합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public class ExpiringCache<K, V> {
+
+    // 넘친 크기 외에 추가로 비워둘 비율 (제거 작업이 매번 일어나지 않도록)
+    private static final double EVICTION_HEADROOM = 0.1;
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final EvictionPolicy evictionPolicy;
+    private final LongSupplier clock; // 현재 시간 (밀리초)
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringCache(int maxSize, EvictionPolicy evictionPolicy) {
+        this(maxSize, evictionPolicy, System::currentTimeMillis);
+    }
+
+    public ExpiringCache(int maxSize, EvictionPolicy evictionPolicy, LongSupplier clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize 는 0보다 커야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.evictionPolicy = evictionPolicy;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시에서 값을 조회합니다.
+     * @param key 키
+     * @return 값 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        long now = clock.getAsLong();
+        if (entry.expiresAt <= now) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        entry.lastAccessAt = now;
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * 캐시에 값을 저장합니다. 이미 만료된 값은 저장하지 않습니다.
+     * @param key 키
+     * @param value 값
+     * @param expiresAt 만료 시간 (epoch 밀리초)
+     */
+    public void put(K key, V value, long expiresAt) {
+        long now = clock.getAsLong();
+        if (expiresAt <= now) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, now, expiresAt));
+        if (entries.size() > maxSize) {
+            evict(now);
+        }
+    }
+
+    /**
+     * 특정 키를 캐시에서 제거합니다.
+     * @param key 키
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 캐시의 모든 항목을 제거합니다.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 현재 캐시 통계를 반환합니다.
+     * @return 적중/실패/제거 횟수와 현재 크기
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void evict(long now) {
+        // 제거 작업은 한 스레드만 수행하고, 나머지 스레드는 기다리지 않고 돌아갑니다.
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (entries.size() <= maxSize) {
+                return;
+            }
+
+            // 1. 만료된 항목 정리
+            entries.entrySet().removeIf(e -> {
+                boolean expired = e.getValue().expiresAt <= now;
+                if (expired) {
+                    evictions.increment();
+                }
+                return expired;
+            });
+
+            // 2. 그래도 넘치면 정책 순서대로 여유분까지 제거
+            int target = maxSize - (int) (maxSize * EVICTION_HEADROOM);
+            int excess = entries.size() - target;
+            if (excess <= 0) {
+                return;
+            }
+            // 점수가 가장 낮은 excess 개를 고르기 위해, 점수가 높은 항목이 head 에 오는 힙을 유지합니다.
+            PriorityQueue<Map.Entry<K, Entry<V>>> victims = new PriorityQueue<>(excess,
+                    Comparator.comparingLong((Map.Entry<K, Entry<V>> e) -> evictionPolicy.score(e.getValue())).reversed());
+            for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+                victims.offer(e);
+                if (victims.size() > excess) {
+                    victims.poll();
+                }
+            }
+            List<Map.Entry<K, Entry<V>>> selected = new ArrayList<>(victims);
+            for (Map.Entry<K, Entry<V>> e : selected) {
+                if (entries.remove(e.getKey(), e.getValue())) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 항목
+     * - EvictionPolicy 가 제거 순서를 정할 때 참고하는 시간 정보를 가집니다.
+     */
+    public static final class Entry<V> {
+        private final V value;
+        private final long createdAt;
+        private final long expiresAt;
+        private volatile long lastAccessAt;
+
+        private Entry(V value, long createdAt, long expiresAt) {
+            this.value = value;
+            this.createdAt = createdAt;
+            this.expiresAt = expiresAt;
+            this.lastAccessAt = createdAt;
+        }
+
+        public long createdAt() {
+            return createdAt;
+        }
+
+        public long expiresAt() {
+            return expiresAt;
+        }
+
+        public long lastAccessAt() {
+            return lastAccessAt;
+        }
+    }
+
+    /**
+     * 캐시 통계
+     *
+     * @param hits      적중 횟수
+     * @param misses    실패 횟수
+     * @param evictions 제거 횟수 (만료 + 용량 초과)
+     * @param size      현재 항목 수
+     */
+    public record CacheStats(long hits, long misses, long evictions, int size) {
+
+        public static CacheStats empty() {
+            return new CacheStats(0, 0, 0, 0);
+        }
+    }
+}
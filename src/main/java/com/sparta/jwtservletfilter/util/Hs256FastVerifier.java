@@ -0,0 +1,585 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * JwtUtil 이 발급하는 HS256 토큰 전용 고속 검증기
+ * - 헤더가 {"alg":"HS256"} 또는 {"kid":"...","alg":"HS256"} 이고,
+ *   클레임이 sub, jti, auth(역할 비트마스크 또는 역할 이름), exp, iat 뿐인 토큰만 처리합니다.
+ * - kid 가 있으면 SigningKeyRing 의 해당 키로, 없으면 기본 키로 검증합니다. (키 묶음이 바뀌면 새 검증기를 만듭니다)
+ * - Mac 과 버퍼는 ScratchPool 에서 꺼내 재사용하고 (가상 스레드에서도 재사용됨), 서명은 바이트 배열 위에서 상수 시간으로 비교합니다.
+ * - 페이로드는 Jackson 대신 전용 스캐너로 읽습니다.
+ * - 처리할 수 없는 토큰(형식이 다르거나, 서명이 틀리거나, 만료된 토큰)은 null 을 반환하며,
+ *   호출자는 jjwt 파서로 다시 검증하여 기존과 같은 예외/로그를 얻습니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public class Hs256FastVerifier {
+
+    // JwtUtil.generateToken 이 kid 없이 만드는 헤더 {"alg":"HS256"} 의 Base64URL 인코딩
+    static final String HS256_HEADER = "eyJhbGciOiJIUzI1NiJ9";
+    // 이보다 긴 토큰은 jjwt 로 넘깁니다.
+    static final int MAX_TOKEN_LENGTH = 4096;
+    // 이보다 긴 헤더(디코딩 후)는 jjwt 로 넘깁니다.
+    static final int MAX_HEADER_LENGTH = 256;
+
+    private static final String HMAC_SHA256 = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int SIGNATURE_SEGMENT_LENGTH = 43; // 32바이트의 패딩 없는 Base64URL 길이
+
+    private static final byte[] ALG = ascii("alg");
+    private static final byte[] HS256 = ascii("HS256");
+    private static final byte[] KID = ascii("kid");
+    private static final byte[] SUB = ascii("sub");
+    private static final byte[] JTI = ascii("jti");
+    private static final byte[] AUTH = ascii("auth");
+    private static final byte[] EXP = ascii("exp");
+    private static final byte[] IAT = ascii("iat");
+    private static final UserRoleEnum[] ROLES = UserRoleEnum.values();
+
+    // Base64URL 문자 -> 6비트 값 (-1: 허용되지 않는 문자)
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final Key[] keys; // 키 번호 -> 키
+    private final Map<String, Integer> kidIndex; // kid -> 키 번호
+    private final int legacyIndex; // kid 없는 토큰의 키 번호 (-1: 없음)
+    private final LongSupplier clock; // 현재 시간 (밀리초)
+    private final ScratchPool<Scratch> scratch;
+
+    public Hs256FastVerifier(byte[] secret) {
+        this(secret, System::currentTimeMillis);
+    }
+
+    public Hs256FastVerifier(byte[] secret, LongSupplier clock) {
+        this(Map.of(), new SecretKeySpec(secret, HMAC_SHA256), clock);
+    }
+
+    public Hs256FastVerifier(SigningKeyRing keyRing) {
+        this(keyRing.hmacKeys(), keyRing.legacyKey(), System::currentTimeMillis);
+    }
+
+    private Hs256FastVerifier(Map<String, ? extends Key> keysByKid, Key legacyKey, LongSupplier clock) {
+        this.keys = new Key[keysByKid.size() + 1];
+        this.kidIndex = new HashMap<>();
+        int index = 0;
+        for (Map.Entry<String, ? extends Key> entry : keysByKid.entrySet()) {
+            keys[index] = entry.getValue();
+            kidIndex.put(entry.getKey(), index++);
+        }
+        keys[index] = legacyKey;
+        this.legacyIndex = legacyKey != null ? index : -1;
+        this.clock = clock;
+        this.scratch = new ScratchPool<>(() -> new Scratch(keys.length));
+    }
+
+    /**
+     * 토큰을 검증하여 주체 정보를 반환합니다.
+     * @param token JWT 토큰
+     * @return 검증된 주체 정보 (이 검증기로 처리할 수 없거나 유효하지 않으면 null)
+     */
+    public JwtPrincipal verify(String token) {
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            return null;
+        }
+        int headerEnd = token.indexOf('.');
+        if (headerEnd <= 0) {
+            return null;
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || length - payloadEnd - 1 != SIGNATURE_SEGMENT_LENGTH) {
+            return null;
+        }
+
+        Scratch s = scratch.acquire();
+        try {
+            return verify(token, headerEnd, payloadEnd, s);
+        } finally {
+            scratch.release(s);
+        }
+    }
+
+    private JwtPrincipal verify(String token, int headerEnd, int payloadEnd, Scratch s) {
+        int length = token.length();
+
+        // 0. 헤더에서 검증 키 결정 (kid 없는 기본 헤더는 디코딩 없이 비교)
+        int keyIndex = headerEnd == HS256_HEADER.length() && token.startsWith(HS256_HEADER)
+                ? legacyIndex
+                : resolveKeyIndex(token, headerEnd, s.header);
+        if (keyIndex < 0) {
+            return null;
+        }
+        Mac mac = s.mac(keyIndex);
+
+        // 1. 서명 검증: "header.payload" 의 HMAC 과 서명 세그먼트를 상수 시간으로 비교
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            s.input[i] = (byte) c;
+        }
+        mac.update(s.input, 0, payloadEnd);
+        try {
+            mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+        if (decode(token, payloadEnd + 1, length, s.signature) != SIGNATURE_LENGTH
+                || !MessageDigest.isEqual(s.expected, s.signature)) {
+            return null;
+        }
+
+        // 2. 페이로드 디코딩 및 클레임 스캔
+        int payloadLength = decode(token, headerEnd + 1, payloadEnd, s.payload);
+        if (payloadLength < 0) {
+            return null;
+        }
+        return scanClaims(s.payload, payloadLength);
+    }
+
+    /**
+     * {"alg":"HS256","kid":"..."} 형태의 헤더를 읽어 검증 키 번호를 반환합니다.
+     * 그 외의 헤더 파라미터가 있거나 kid 를 모르면 -1 을 반환합니다.
+     */
+    private int resolveKeyIndex(String token, int headerEnd, byte[] buffer) {
+        int headerLength = decode(token, 0, headerEnd, buffer);
+        if (headerLength < 0) {
+            return -1;
+        }
+        Cursor cur = new Cursor(buffer, headerLength);
+        boolean algSeen = false;
+        String kid = null;
+
+        cur.skipWhitespace();
+        if (!cur.consume('{')) {
+            return -1;
+        }
+        do {
+            cur.skipWhitespace();
+            int keyStart = cur.stringStart();
+            int keyEnd = keyStart < 0 ? -1 : cur.stringEnd();
+            if (keyEnd < 0) {
+                return -1;
+            }
+            cur.skipWhitespace();
+            if (!cur.consume(':')) {
+                return -1;
+            }
+            cur.skipWhitespace();
+            if (cur.equals(keyStart, keyEnd, ALG) && !algSeen) {
+                int valueStart = cur.stringStart();
+                int valueEnd = valueStart < 0 ? -1 : cur.stringEnd();
+                if (valueEnd < 0 || !cur.equals(valueStart, valueEnd, HS256)) {
+                    return -1;
+                }
+                algSeen = true;
+            } else if (cur.equals(keyStart, keyEnd, KID) && kid == null) {
+                kid = cur.readString();
+                if (kid == null) {
+                    return -1;
+                }
+            } else {
+                return -1;
+            }
+            cur.skipWhitespace();
+        } while (cur.consume(','));
+
+        if (!cur.consume('}') || !algSeen) {
+            return -1;
+        }
+        cur.skipWhitespace();
+        if (!cur.atEnd()) {
+            return -1;
+        }
+        if (kid == null) {
+            return legacyIndex;
+        }
+        Integer index = kidIndex.get(kid);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * {"sub":"...","jti":"...","auth":"...","exp":n,"iat":n} 형태의 평평한 JSON 객체를 읽습니다.
+     * 그 외의 키나 값 형태가 나오면 null 을 반환합니다.
+     */
+    private JwtPrincipal scanClaims(byte[] json, int length) {
+        Cursor cur = new Cursor(json, length);
+        String subject = null;
+        String tokenId = null; // jti 는 선택 (이전 토큰에는 없음)
+        int roleMask = 0;
+        long exp = -1;
+        boolean iatSeen = false;
+
+        cur.skipWhitespace();
+        if (!cur.consume('{')) {
+            return null;
+        }
+        cur.skipWhitespace();
+        if (cur.consume('}')) {
+            return null;
+        }
+        do {
+            cur.skipWhitespace();
+            int keyStart = cur.stringStart();
+            if (keyStart < 0) {
+                return null;
+            }
+            int keyEnd = cur.stringEnd();
+            if (keyEnd < 0) {
+                return null;
+            }
+            cur.skipWhitespace();
+            if (!cur.consume(':')) {
+                return null;
+            }
+            cur.skipWhitespace();
+
+            if (cur.equals(keyStart, keyEnd, SUB) && subject == null) {
+                subject = cur.readString();
+                if (subject == null) {
+                    return null;
+                }
+            } else if (cur.equals(keyStart, keyEnd, JTI) && tokenId == null) {
+                tokenId = cur.readString();
+                if (tokenId == null) {
+                    return null;
+                }
+            } else if (cur.equals(keyStart, keyEnd, AUTH) && roleMask == 0) {
+                roleMask = cur.readRoleMask();
+                if (roleMask == 0) {
+                    return null;
+                }
+            } else if (cur.equals(keyStart, keyEnd, EXP) && exp < 0) {
+                exp = cur.readLong();
+                if (exp < 0) {
+                    return null;
+                }
+            } else if (cur.equals(keyStart, keyEnd, IAT) && !iatSeen) {
+                if (cur.readLong() < 0) {
+                    return null;
+                }
+                iatSeen = true;
+            } else {
+                // 알 수 없는 클레임이나 중복 클레임은 jjwt 에 맡깁니다.
+                return null;
+            }
+            cur.skipWhitespace();
+        } while (cur.consume(','));
+
+        if (!cur.consume('}')) {
+            return null;
+        }
+        cur.skipWhitespace();
+        if (!cur.atEnd() || subject == null || roleMask == 0 || exp < 0) {
+            return null;
+        }
+        // jjwt 와 동일하게, 현재 시간이 exp 를 지났으면 만료로 봅니다.
+        if (clock.getAsLong() > exp * 1000L) {
+            return null;
+        }
+        return new JwtPrincipal(subject, roleMask, Instant.ofEpochSecond(exp), tokenId);
+    }
+
+    /**
+     * 패딩 없는 Base64URL 구간 [from, to) 를 out 에 디코딩합니다.
+     * @return 디코딩된 바이트 수 (형식이 잘못되었거나 out 이 작으면 -1)
+     */
+    private static int decode(String src, int from, int to, byte[] out) {
+        int length = to - from;
+        if (length % 4 == 1 || (length / 4) * 3 + 2 > out.length) {
+            return -1;
+        }
+        int o = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            char c = src.charAt(i);
+            int v = c < 128 ? BASE64URL[c] : -1;
+            if (v < 0) {
+                return -1;
+            }
+            bits = (bits << 6) | v;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[o++] = (byte) (bits >> bitCount);
+            }
+        }
+        return o;
+    }
+
+    private Mac newMac(Key key) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_SHA256);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 풀에서 꺼내 재사용하는 Mac 과 버퍼 (Mac 은 키별로 처음 사용할 때 생성)
+     */
+    private final class Scratch {
+        private final Mac[] macs;
+        private final byte[] header = new byte[MAX_HEADER_LENGTH];
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+        private Scratch(int keyCount) {
+            this.macs = new Mac[keyCount];
+        }
+
+        Mac mac(int keyIndex) {
+            Mac mac = macs[keyIndex];
+            if (mac == null) {
+                mac = newMac(keys[keyIndex]);
+                macs[keyIndex] = mac;
+            }
+            return mac;
+        }
+    }
+
+    /**
+     * 디코딩된 페이로드 위를 이동하는 최소한의 JSON 스캐너
+     */
+    private static final class Cursor {
+        private final byte[] buf;
+        private final int length;
+        private int pos;
+
+        private Cursor(byte[] buf, int length) {
+            this.buf = buf;
+            this.length = length;
+        }
+
+        boolean atEnd() {
+            return pos >= length;
+        }
+
+        void skipWhitespace() {
+            while (pos < length) {
+                byte b = buf[pos];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        boolean consume(char c) {
+            if (pos < length && buf[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        /** 여는 따옴표를 소비하고 문자열 내용의 시작 위치를 반환합니다. */
+        int stringStart() {
+            return consume('"') ? pos : -1;
+        }
+
+        /** 이스케이프 없는 문자열의 닫는 따옴표까지 소비하고, 내용의 끝 위치를 반환합니다. */
+        int stringEnd() {
+            while (pos < length) {
+                byte b = buf[pos];
+                if (b == '"') {
+                    return pos++;
+                }
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    return -1;
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        boolean equals(int start, int end, byte[] expected) {
+            if (end - start != expected.length) {
+                return false;
+            }
+            for (int i = 0; i < expected.length; i++) {
+                if (buf[start + i] != expected[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /** 문자열 값을 읽습니다. 이스케이프가 없으면 UTF-8 바이트에서 바로 생성합니다. */
+        String readString() {
+            int start = stringStart();
+            if (start < 0) {
+                return null;
+            }
+            while (pos < length) {
+                byte b = buf[pos];
+                if (b == '"') {
+                    return new String(buf, start, pos++ - start, StandardCharsets.UTF_8);
+                }
+                if (b == '\\') {
+                    return readEscapedString(start);
+                }
+                if (b >= 0 && b < 0x20) {
+                    return null;
+                }
+                pos++;
+            }
+            return null;
+        }
+
+        private String readEscapedString(int start) {
+            StringBuilder sb = new StringBuilder(new String(buf, start, pos - start, StandardCharsets.UTF_8));
+            int runStart = pos;
+            while (pos < length) {
+                byte b = buf[pos];
+                if (b == '"') {
+                    sb.append(new String(buf, runStart, pos++ - runStart, StandardCharsets.UTF_8));
+                    return sb.toString();
+                }
+                if (b >= 0 && b < 0x20) {
+                    return null;
+                }
+                if (b != '\\') {
+                    pos++;
+                    continue;
+                }
+                sb.append(new String(buf, runStart, pos - runStart, StandardCharsets.UTF_8));
+                if (++pos >= length) {
+                    return null;
+                }
+                switch (buf[pos++]) {
+                    case '"' -> sb.append('"');
+                    case '\\' -> sb.append('\\');
+                    case '/' -> sb.append('/');
+                    case 'b' -> sb.append('\b');
+                    case 'f' -> sb.append('\f');
+                    case 'n' -> sb.append('\n');
+                    case 'r' -> sb.append('\r');
+                    case 't' -> sb.append('\t');
+                    case 'u' -> {
+                        if (pos + 4 > length) {
+                            return null;
+                        }
+                        int cp = 0;
+                        for (int i = 0; i < 4; i++) {
+                            int d = Character.digit(buf[pos++], 16);
+                            if (d < 0) {
+                                return null;
+                            }
+                            cp = (cp << 4) | d;
+                        }
+                        sb.append((char) cp);
+                    }
+                    default -> {
+                        return null;
+                    }
+                }
+                runStart = pos;
+            }
+            return null;
+        }
+
+        /**
+         * auth 클레임을 역할 비트마스크로 읽습니다.
+         * - 정수: 역할 비트마스크
+         * - 문자열: 이전 형식의 역할 이름 (쉼표 구분), 문자열 생성 없이 바이트로 비교합니다.
+         * @return 역할 비트마스크 (읽을 수 없으면 0)
+         */
+        int readRoleMask() {
+            if (pos < length && buf[pos] != '"') {
+                long value = readLong();
+                return (value > 0 && value <= Integer.MAX_VALUE) ? (int) value : 0;
+            }
+            int start = stringStart();
+            if (start < 0) {
+                return 0;
+            }
+            int end = stringEnd();
+            if (end < 0) {
+                return 0;
+            }
+            int mask = 0;
+            int nameStart = start;
+            for (int i = start; i <= end; i++) {
+                if (i < end && buf[i] != ',') {
+                    continue;
+                }
+                UserRoleEnum role = findRole(nameStart, i);
+                if (role == null) {
+                    return 0;
+                }
+                mask |= role.mask();
+                nameStart = i + 1;
+            }
+            return mask;
+        }
+
+        private UserRoleEnum findRole(int start, int end) {
+            for (UserRoleEnum role : ROLES) {
+                String name = role.name();
+                if (end - start != name.length()) {
+                    continue;
+                }
+                boolean match = true;
+                for (int i = 0; i < name.length() && match; i++) {
+                    match = buf[start + i] == name.charAt(i);
+                }
+                if (match) {
+                    return role;
+                }
+            }
+            return null;
+        }
+
+        /** 0 이상의 정수 값을 읽습니다. 소수/지수/음수/18자리 초과는 -1 을 반환합니다. */
+        long readLong() {
+            int start = pos;
+            long value = 0;
+            while (pos < length && buf[pos] >= '0' && buf[pos] <= '9') {
+                value = value * 10 + (buf[pos++] - '0');
+            }
+            int digits = pos - start;
+            if (digits == 0 || digits > 18) {
+                return -1;
+            }
+            if (pos < length && (buf[pos] == '.' || buf[pos] == 'e' || buf[pos] == 'E')) {
+                return -1;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.RefreshFamily;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내부 리프레시 토큰 저장소
+ * - 단일 노드 운영과 테스트용 구현입니다. 여러 노드에서는 다른 노드가 발급한 토큰을 찾지 못합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final ConcurrentHashMap<String, RefreshFamily> families = new ConcurrentHashMap<>();
+
+    @Override
+    public RefreshFamily find(String familyId) {
+        return families.get(familyId);
+    }
+
+    @Override
+    public void save(RefreshFamily family) {
+        families.put(family.familyId(), family);
+    }
+
+    @Override
+    public boolean replace(RefreshFamily expected, RefreshFamily updated) {
+        return families.replace(expected.familyId(), expected, updated);
+    }
+
+    @Override
+    public void purgeExpired(long nowMillis) {
+        families.values().removeIf(family -> family.expiresAt() <= nowMillis);
+    }
+
+    /**
+     * @return 보관 중인 family 수
+     */
+    public int size() {
+        return families.size();
+    }
+}
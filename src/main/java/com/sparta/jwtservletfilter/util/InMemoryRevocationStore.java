@@ -0,0 +1,51 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 프로세스 내부 폐기 저장소
+ * - 단일 노드 운영과 테스트용 구현입니다. 같은 인스턴스를 공유하는 TokenRevocationList 끼리 폐기 정보가 전달됩니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public class InMemoryRevocationStore implements RevocationStore {
+
+    private final ConcurrentHashMap<String, Long> entries = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(String tokenId, long expiresAtMillis) {
+        entries.merge(tokenId, expiresAtMillis, Math::max);
+        for (BiConsumer<String, Long> listener : listeners) {
+            listener.accept(tokenId, expiresAtMillis);
+        }
+    }
+
+    @Override
+    public Map<String, Long> active(long nowMillis) {
+        Map<String, Long> active = new HashMap<>();
+        entries.forEach((tokenId, expiresAt) -> {
+            if (expiresAt > nowMillis) {
+                active.put(tokenId, expiresAt);
+            }
+        });
+        return active;
+    }
+
+    @Override
+    public void subscribe(BiConsumer<String, Long> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void purgeExpired(long nowMillis) {
+        entries.values().removeIf(expiresAt -> expiresAt <= nowMillis);
+    }
+}
@@ -1,20 +1,31 @@
 package com.sparta.jwtservletfilter.util;
 
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.dto.TokenValidationResult;
 import com.sparta.jwtservletfilter.entity.UserRoleEnum;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
 import java.security.Key;
 import java.util.Base64;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * JWT 유틸리티 클래스
  * - JWT 생성, 검증 및 클레임 추출을 담당합니다.
+ * - jwt.key-ring.location 을 지정하면 kid 별 키 묶음(SigningKeyRing)으로 서명/검증하고,
+ *   키 파일이 바뀌면 재시작 없이 다시 읽습니다. (이전 키로 서명된 토큰도 키 파일에 남아 있는 동안 유효)
+ * - 키 묶음에 ES256 키를 두면, 개인 키를 가진 노드만 발급하고 공개 키만 가진 노드는 검증만 합니다.
  *
  * @author JaeHwan Kim
  * @version 1.0
@@ -27,28 +38,112 @@ public class JwtUtil {
     public static final String BEARER_PREFIX = "Bearer ";
     // JWT 토큰의 만료 시간 (밀리초 단위, 여기서는 60분)
     private final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
-    // JWT 서명 알고리즘
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
-    // 애플리케이션 설정 파일에서 주입받은 비밀 키
-    @Value("${jwt.secret.key}")
+    // 애플리케이션 설정 파일에서 주입받은 비밀 키 (키 묶음만 사용하는 검증 전용 노드는 비워 둘 수 있음)
+    @Value("${jwt.secret.key:}")
     private String secretKey;
-    // 실제 서명에 사용되는 키 객체
-    private Key key;
+    // kid 별 키 묶음 파일 경로 (비어 있으면 jwt.secret.key 하나만 사용)
+    @Value("${jwt.key-ring.location:}")
+    private String keyRingLocation;
+    // 현재 서명/검증 키 묶음 (키 파일이 바뀌면 통째로 교체)
+    private volatile SigningKeyRing keyRing;
+    // 키 파일 감시 (키 파일을 사용하지 않으면 null)
+    private KeyRingFileWatcher keyRingWatcher;
+    // 서명 검증에 사용되는 파서 (불변 객체이므로 모든 스레드에서 재사용, 검증 키는 kid 로 현재 키 묶음에서 조회)
+    private JwtParser jwtParser;
+
+    // 검증된 토큰 캐시 사용 여부 (기본값: 사용하지 않음)
+    @Value("${jwt.cache.enabled:false}")
+    private boolean cacheEnabled;
+    // 검증된 토큰 캐시의 최대 크기
+    @Value("${jwt.cache.max-size:10000}")
+    private int cacheMaxSize;
+    // 캐시가 가득 찼을 때의 제거 정책
+    @Value("${jwt.cache.eviction-policy:EARLIEST_EXPIRY}")
+    private String cacheEvictionPolicy;
+    // 검증된 토큰 캐시 (사용하지 않으면 null)
+    private VerifiedTokenCache tokenCache;
+
+    // HS256 고속 검증기 사용 여부 (기본값: 사용하지 않음)
+    @Value("${jwt.fast-path.enabled:false}")
+    private boolean fastPathEnabled;
+    // HS256 고속 검증기 (사용하지 않으면 null, 키 묶음이 바뀌면 교체)
+    private volatile Hs256FastVerifier fastVerifier;
+
+    // 파싱/검증 시간, 실패 사유 메트릭 (스프링 컨텍스트 밖에서 생성하면 기록하지 않음)
+    @Autowired(required = false)
+    private AuthMetrics authMetrics = AuthMetrics.noop();
+    // 검증 실패 로그 주기 (사유별로 이 주기당 한 줄만 남김)
+    @Value("${jwt.rejection-log.interval-ms:10000}")
+    private long rejectionLogIntervalMs = 10_000;
+    // 검증 실패 로그 빈도 제한기
+    private TokenRejectionLogger rejectionLogger;
 
     /**
      * 빈 초기화 메서드
      * - 애플리케이션 시작 시 비밀 키를 Base64로 디코딩하여 Key 객체를 초기화합니다.
+     * - 요청마다 파서를 새로 만들지 않도록, 검증용 파서를 한 번만 생성합니다.
      */
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        rejectionLogger = new TokenRejectionLogger(rejectionLogIntervalMs);
+        if (cacheEnabled) {
+            tokenCache = new VerifiedTokenCache(cacheMaxSize, EvictionPolicy.of(cacheEvictionPolicy));
+        }
+        reloadKeyRing();
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        // kid 로 현재 키 묶음에서 검증 키를 찾습니다. (HashMap 조회 한 번)
+                        Key key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new UnsupportedJwtException("알 수 없는 kid 입니다. : " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        if (keyRingLocation != null && !keyRingLocation.isBlank()) {
+            keyRingWatcher = new KeyRingFileWatcher(Path.of(keyRingLocation), this::reloadKeyRing);
+        }
+    }
+
+    /**
+     * 키 묶음을 다시 읽습니다. (키 파일 변경 시 자동 호출)
+     * - 키 파일이 잘못되었으면 예외가 발생하고 기존 키 묶음을 그대로 사용합니다.
+     * - 빠진 키로 검증되어 캐시에 남은 토큰이 없도록, 검증된 토큰 캐시를 비웁니다.
+     */
+    public void reloadKeyRing() {
+        byte[] secret = secretKey != null && !secretKey.isBlank() ? Base64.getDecoder().decode(secretKey) : null;
+        boolean fileMode = keyRingLocation != null && !keyRingLocation.isBlank();
+        if (!fileMode && secret == null) {
+            throw new IllegalStateException("jwt.secret.key 또는 jwt.key-ring.location 중 하나는 설정해야 합니다.");
+        }
+        SigningKeyRing loaded = fileMode
+                ? SigningKeyRing.load(Path.of(keyRingLocation), secret)
+                : SigningKeyRing.single(secret);
+        keyRing = loaded;
+        fastVerifier = fastPathEnabled ? new Hs256FastVerifier(loaded) : null;
+        if (tokenCache != null) {
+            tokenCache.invalidateAll();
+        }
+        log.info("서명 키 : active kid={}, algorithm={}, {} keys{}", loaded.activeKid(), loaded.signingAlgorithm(),
+                loaded.size(), loaded.canSign() ? "" : " (검증 전용)");
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (keyRingWatcher != null) {
+            keyRingWatcher.close();
+        }
     }
 
     /**
      * JWT 토큰에서 사용자 이름을 추출합니다.
+     * - 유효하지 않은 토큰이면 jjwt 예외를 그대로 던지므로, 요청 경로에서는 validate 를 사용합니다.
      * @param token JWT 토큰
      * @return 사용자 이름
+     * @throws JwtException 토큰이 유효하지 않은 경우
      */
     public String extractUsername(String token) {
         return extractAllClaims(token).getSubject();
@@ -60,9 +155,8 @@ public class JwtUtil {
      * @return 클레임 객체
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(key) // 비밀 키를 사용하여 서명 검증
-                .parseClaimsJws(token)
+        return jwtParser
+                .parseClaimsJws(token) // 토큰 파싱 및 서명 검증
                 .getBody();
     }
 
@@ -73,25 +167,43 @@ public class JwtUtil {
      * @return 생성된 JWT 토큰
      */
     public String generateToken(String username, UserRoleEnum userRole) {
+        return generateToken(username, EnumSet.of(userRole));
+    }
+
+    /**
+     * 여러 역할을 가진 JWT 토큰을 생성합니다.
+     * - 역할 집합은 auth 클레임에 비트마스크(정수)로 담습니다.
+     * @param username 사용자 이름
+     * @param userRoles 사용자의 역할 집합 (권한)
+     * @return 생성된 JWT 토큰
+     * @throws IllegalStateException 서명 키가 없는 검증 전용 노드인 경우
+     */
+    public String generateToken(String username, Set<UserRoleEnum> userRoles) {
         Date date = new Date();
+        SigningKeyRing ring = keyRing;
+        JwtBuilder builder = Jwts.builder();
+        if (ring.activeKid() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, ring.activeKid()); // 서명 키 식별자
+        }
 
         return BEARER_PREFIX +
-                Jwts.builder()
+                builder
                         .setSubject(username) // 사용자 식별자 (ID)
-                        .claim("auth", userRole) // 사용자 권한 (역할)
+                        .setId(UUID.randomUUID().toString()) // 토큰 식별자 (폐기 목록에서 사용)
+                        .claim("auth", UserRoleEnum.toMask(userRoles)) // 사용자 권한 (역할 비트마스크)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME)) // 만료 시간 설정
                         .setIssuedAt(date) // 발급 시간 설정
-                        .signWith(key, signatureAlgorithm) // 비밀 키와 알고리즘으로 서명
+                        .signWith(ring.signingKey(), ring.signingAlgorithm()) // 활성 키와 알고리즘(HS256/ES256)으로 서명
                         .compact(); // JWT 토큰 생성
     }
 
     /**
      * JWT 토큰에서 역할(권한) 정보를 추출합니다.
      * @param token JWT 토큰
-     * @return 역할 정보 (문자열)
+     * @return 역할 집합
      */
-    public String extractRoles(String token) {
-        return extractAllClaims(token).get("auth", String.class);
+    public EnumSet<UserRoleEnum> extractRoles(String token) {
+        return UserRoleEnum.fromMask(decodeRoleMask(extractAllClaims(token).get("auth")));
     }
 
     /**
@@ -100,41 +212,156 @@ public class JwtUtil {
      * @param role 확인할 역할
      * @return 역할 포함 여부 (true: 포함됨, false: 포함되지 않음)
      */
-    public boolean hasRole(String token, String role) {
-        String roles = extractRoles(token);
-        return roles.contains(role);
+    public boolean hasRole(String token, UserRoleEnum role) {
+        return (decodeRoleMask(extractAllClaims(token).get("auth")) & role.mask()) != 0;
     }
 
     /**
-     * JWT 토큰의 유효성을 검증합니다.
+     * JWT 토큰을 한 번만 파싱/검증하여 검증 결과를 반환합니다. (예외를 던지지 않음)
+     * - 서명 검증과 클레임 디코딩을 한 번에 수행하므로, 요청당 한 번만 호출하면 됩니다.
+     * - 형식/길이 오류와 이미 만료된 토큰은 TokenPrecheck 로 캐시 조회, 서명 검증 전에 거부합니다.
+     * - 토큰 캐시를 사용하면, 이미 검증된 토큰은 서명 검증 없이 캐시에서 반환합니다.
      *
      * @param token 검증할 JWT 토큰
-     * @return 토큰의 유효성 여부 (true: 유효함, false: 유효하지 않음)
+     * @return 검증된 주체 정보 또는 거부 사유
      */
-    public boolean validateToken(String token) {
+    public TokenValidationResult validate(String token) {
+        long startedAt = System.nanoTime();
+        TokenRejectReason precheck = TokenPrecheck.check(token, System.currentTimeMillis());
+        if (precheck != null) {
+            authMetrics.recordParse(startedAt);
+            return reject(precheck, "사전 검사에서 거부됨");
+        }
+        if (tokenCache != null) {
+            JwtPrincipal cached = tokenCache.get(token);
+            if (cached != null) {
+                authMetrics.recordParse(startedAt);
+                return TokenValidationResult.valid(cached);
+            }
+        }
+        TokenValidationResult result = verifyPrincipal(token);
+        if (tokenCache != null && result.isValid()) {
+            tokenCache.put(token, result.principal());
+        }
+        authMetrics.recordParse(startedAt);
+        return result;
+    }
+
+    /**
+     * JWT 토큰을 검증하여 검증된 주체 정보를 반환합니다.
+     * @param token 검증할 JWT 토큰
+     * @return 검증된 주체 정보 (유효하지 않은 토큰이면 null)
+     */
+    public JwtPrincipal parsePrincipal(String token) {
+        return validate(token).principal();
+    }
+
+    /**
+     * 검증된 토큰 캐시의 통계를 반환합니다.
+     * @return 적중/실패 횟수 등 (캐시를 사용하지 않으면 모두 0)
+     */
+    public ExpiringCache.CacheStats getTokenCacheStats() {
+        return tokenCache != null ? tokenCache.stats() : ExpiringCache.CacheStats.empty();
+    }
+
+    /**
+     * 서명을 검증하고 클레임을 주체 정보로 변환합니다.
+     * - 고속 검증기를 사용하면 먼저 시도하고, 처리하지 못한 토큰만 jjwt 로 검증합니다.
+     * @param token 검증할 JWT 토큰
+     * @return 검증된 주체 정보 또는 거부 사유
+     */
+    private TokenValidationResult verifyPrincipal(String token) {
+        long startedAt = System.nanoTime();
         try {
-            // JWT 파서 빌더를 사용하여 토큰의 서명을 검증합니다.
-            // setSigningKey() 메서드를 사용하여 서명 검증에 사용할 비밀 키를 설정합니다.
-            // parseClaimsJws() 메서드를 사용하여 토큰의 클레임을 파싱하고 서명을 검증합니다.
-            Jwts.parserBuilder()
-                    .setSigningKey(key) // 비밀 키 설정
-                    .build() // 파서 빌더 빌드
-                    .parseClaimsJws(token); // 토큰 파싱 및 검증
-            return true; // 토큰이 유효한 경우
-        } catch (SecurityException | MalformedJwtException | SignatureException e) {
-            // 토큰 서명이 잘못되었거나, 잘못된 형식의 JWT가 전달된 경우
-            log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
+            return verifySignature(token);
+        } finally {
+            authMetrics.recordVerify(startedAt);
+        }
+    }
+
+    private TokenValidationResult verifySignature(String token) {
+        Hs256FastVerifier verifier = fastVerifier;
+        if (verifier != null) {
+            JwtPrincipal principal = verifier.verify(token);
+            if (principal != null) {
+                return TokenValidationResult.valid(principal);
+            }
+        }
+        try {
+            Claims claims = extractAllClaims(token); // 토큰 파싱 및 서명 검증
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                throw new IllegalArgumentException("sub, exp 클레임이 필요합니다.");
+            }
+            return TokenValidationResult.valid(new JwtPrincipal(
+                    claims.getSubject(),
+                    decodeRoleMask(claims.get("auth")),
+                    claims.getExpiration().toInstant(),
+                    claims.getId()
+            ));
+        } catch (SignatureException e) {
+            // 토큰 서명이 잘못된 경우
+            return reject(TokenRejectReason.BAD_SIGNATURE, e);
+        } catch (SecurityException | MalformedJwtException e) {
+            // 잘못된 형식의 JWT가 전달된 경우
+            return reject(TokenRejectReason.MALFORMED, e);
         } catch (ExpiredJwtException e) {
             // 토큰이 만료된 경우
-            log.error("Expired JWT token, 만료된 JWT token 입니다.", e);
+            return reject(TokenRejectReason.EXPIRED, e);
         } catch (UnsupportedJwtException e) {
             // 지원되지 않는 JWT 형식이 전달된 경우
-            log.error("Unsupported JWT token, 지원되지 않는 JWT 토큰 입니다.", e);
+            return reject(TokenRejectReason.UNSUPPORTED, e);
         } catch (IllegalArgumentException e) {
             // JWT 클레임이 비어 있거나 잘못된 형식일 경우
-            log.error("JWT claims is empty, 잘못된 JWT 토큰 입니다.", e);
+            return reject(TokenRejectReason.MALFORMED, e);
         }
-        return false; // 예외가 발생한 경우 토큰이 유효하지 않음
+    }
+
+    /**
+     * 검증 실패를 사유별 메트릭과 빈도 제한 로그에 기록합니다.
+     * - 만료/변조 토큰은 흔한 입력이므로 스택 트레이스 없이 사유별 합산 로그만 남깁니다.
+     */
+    private TokenValidationResult reject(TokenRejectReason reason, Exception e) {
+        authMetrics.recordRejected(reason);
+        rejectionLogger.reject(reason, e);
+        return TokenValidationResult.rejected(reason);
+    }
+
+    private TokenValidationResult reject(TokenRejectReason reason, String detail) {
+        authMetrics.recordRejected(reason);
+        rejectionLogger.reject(reason, detail);
+        return TokenValidationResult.rejected(reason);
+    }
+
+    /**
+     * auth 클레임을 역할 비트마스크로 변환합니다.
+     * - 정수: 역할 비트마스크
+     * - 문자열: 이전 형식의 역할 이름 (쉼표로 구분된 여러 역할도 허용)
+     * @param auth auth 클레임 값
+     * @return 역할 비트마스크
+     */
+    private static int decodeRoleMask(Object auth) {
+        int mask = 0;
+        if (auth instanceof Number number) {
+            mask = number.intValue();
+        } else if (auth instanceof String names) {
+            for (String name : names.split(",")) {
+                mask |= UserRoleEnum.valueOf(name.trim()).mask();
+            }
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("auth 클레임에 역할이 없습니다.");
+        }
+        return mask;
+    }
+
+    /**
+     * JWT 토큰의 유효성을 검증합니다.
+     *
+     * @param token 검증할 JWT 토큰
+     * @return 토큰의 유효성 여부 (true: 유효함, false: 유효하지 않음)
+     */
+    public boolean validateToken(String token) {
+        return validate(token).isValid();
     }
 
 }
\ No newline at end of file
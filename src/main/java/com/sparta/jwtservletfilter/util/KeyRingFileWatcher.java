@@ -0,0 +1,76 @@
+package com.sparta.jwtservletfilter.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * 키 파일 감시
+ * - 키 파일이 있는 디렉터리를 WatchService 로 감시하고, 변경이 생기면 콜백을 호출합니다.
+ * - 쿠버네티스 ConfigMap/Secret 처럼 심볼릭 링크를 바꿔 끼우는 방식도 잡을 수 있도록,
+ *   파일 이름과 관계없이 디렉터리의 모든 변경에 반응합니다. (다시 읽는 비용이 작으므로)
+ * - 데몬 스레드에서 실행되며, close 로 종료합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "KeyRingFileWatcher")
+public class KeyRingFileWatcher implements AutoCloseable {
+
+    private final WatchService watchService;
+    private final Thread thread;
+
+    public KeyRingFileWatcher(Path file, Runnable onChange) {
+        Path directory = file.toAbsolutePath().getParent();
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY,
+                    StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("키 파일 디렉터리를 감시할 수 없습니다. : " + directory, e);
+        }
+        this.thread = new Thread(() -> watch(onChange), "key-ring-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void watch(Runnable onChange) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                key.pollEvents(); // 이벤트 내용과 관계없이 한 번만 다시 읽습니다.
+                try {
+                    onChange.run();
+                } catch (RuntimeException e) {
+                    log.error("키 파일 다시 읽기 실패, 기존 키를 유지합니다.", e);
+                }
+                if (!key.reset()) {
+                    log.error("키 파일 디렉터리를 더 이상 감시할 수 없습니다.");
+                    return;
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("키 파일 감시 종료 실패", e);
+        }
+        thread.interrupt();
+    }
+}
@@ -1,27 +1,51 @@
 package com.sparta.jwtservletfilter.util;
 
 import at.favre.lib.crypto.bcrypt.BCrypt; // BCrypt 라이브러리 임포트
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * 비밀번호 인코더 클래스
  * - BCrypt를 사용하여 비밀번호를 암호화하고, 암호화된 비밀번호와 원문 비밀번호를 비교하는 기능을 제공합니다.
+ * - 암호화 비용(cost)은 설정값(password.bcrypt.cost)을 사용하고, 저장된 해시의 비용이 다르면 재암호화 대상으로 판단합니다.
+ * - password.bcrypt.calibration-budget-ms 를 지정하면, 기동 시 이 호스트에서 해시 시간을 측정하여 예산 안에서 가장 높은 비용을 선택합니다.
  *
  * @author JaeHwan Kim
  * @version 1.0
  * @since 1.0
  */
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    // 기동 시간이 과도하게 늘어나지 않도록 보정(calibration)에서 시도하는 최대 비용
+    static final int MAX_CALIBRATION_COST = 16;
+
+    private final int cost; // 새로 암호화할 때 사용하는 BCrypt 비용
+
+    @Autowired
+    public PasswordEncoder(@Value("${password.bcrypt.cost:4}") int cost,
+                           @Value("${password.bcrypt.calibration-budget-ms:0}") long calibrationBudgetMs) {
+        this.cost = calibrationBudgetMs > 0 ? calibrate(calibrationBudgetMs) : validCost(cost);
+        log.info("BCrypt cost : {}", this.cost);
+    }
+
+    public PasswordEncoder(int cost) {
+        this.cost = validCost(cost);
+    }
+
     /**
      * 원문 비밀번호를 BCrypt 알고리즘을 사용하여 암호화합니다.
      * @param rawPassword 원문 비밀번호
      * @return 암호화된 비밀번호 문자열
      */
     public String encode(String rawPassword) {
-        // BCrypt의 기본 설정을 사용하여 비밀번호를 해시화
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        // 설정된 비용으로 비밀번호를 해시화
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
     }
 
     /**
@@ -35,4 +59,76 @@ public class PasswordEncoder {
         BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
         return result.verified; // 비교 결과 반환
     }
-}
\ No newline at end of file
+
+    /**
+     * 저장된 해시의 비용이 현재 설정된 비용과 다른지 확인합니다.
+     * - 해시 형식: $2a$NN$... (NN: 두 자리 비용)
+     * @param encodedPassword 암호화된 비밀번호
+     * @return 재암호화 필요 여부 (형식을 알 수 없으면 false)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        int encodedCost = costOf(encodedPassword);
+        return encodedCost > 0 && encodedCost != cost;
+    }
+
+    /**
+     * 이미 BCrypt 로 암호화된 값인지 확인합니다. (일괄 이관 시 기존 해시를 그대로 쓰기 위해 사용)
+     * @param value 비밀번호 또는 해시
+     * @return BCrypt 해시 형식 여부
+     */
+    public boolean isEncoded(String value) {
+        return costOf(value) > 0 && value.length() == 60;
+    }
+
+    /**
+     * 현재 설정된 BCrypt 비용을 반환합니다.
+     * @return BCrypt 비용
+     */
+    public int cost() {
+        return cost;
+    }
+
+    static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7
+                || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(3) != '$' || encodedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = encodedPassword.charAt(4);
+        char ones = encodedPassword.charAt(5);
+        if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    private static int validCost(int cost) {
+        if (cost < BCrypt.MIN_COST || cost > BCrypt.MAX_COST) {
+            throw new IllegalArgumentException("BCrypt 비용은 " + BCrypt.MIN_COST + " ~ " + BCrypt.MAX_COST + " 사이여야 합니다. : " + cost);
+        }
+        return cost;
+    }
+
+    /**
+     * 이 호스트에서 비용별 해시 시간을 측정하여, 예산 안에서 가장 높은 비용을 선택합니다.
+     * - 비용이 1 오를 때마다 시간이 약 2배가 되므로, 예산을 넘는 비용이 나오면 바로 멈춥니다.
+     * - 예산이 너무 작아도 최소 비용(BCrypt.MIN_COST)을 사용합니다.
+     */
+    private static int calibrate(long budgetMs) {
+        byte[] sample = "calibration".getBytes(StandardCharsets.UTF_8);
+        BCrypt.Hasher hasher = BCrypt.withDefaults();
+        hasher.hash(BCrypt.MIN_COST, sample); // JIT 워밍업
+
+        int selected = BCrypt.MIN_COST;
+        for (int candidate = BCrypt.MIN_COST; candidate <= MAX_CALIBRATION_COST; candidate++) {
+            long startedAt = System.nanoTime();
+            hasher.hash(candidate, sample);
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+            log.info("BCrypt 보정 : cost={}, {}ms", candidate, elapsedMs);
+            if (elapsedMs > budgetMs) {
+                break;
+            }
+            selected = candidate;
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,45 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.RefreshFamily;
+
+/**
+ * 리프레시 토큰 family 를 여러 노드가 공유하기 위한 저장소
+ * - RefreshTokenService 는 family ID 로 조회하고, 교체/폐기는 replace(CAS) 로만 반영합니다.
+ *   같은 토큰이 여러 노드에 동시에 와도 한 노드만 교체에 성공합니다.
+ * - family 하나당 항목 하나이므로, 교체 횟수와 무관하게 로그인 수만큼만 저장됩니다.
+ * - 기본 구현은 프로세스 내부 저장소(InMemoryRefreshTokenStore)이며, 공유 저장소(Redis 등)를 쓰려면
+ *   이 인터페이스를 구현한 빈을 등록합니다. (replace 는 비교 후 교체가 원자적이어야 함, 예: WATCH/MULTI 또는 Lua)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * @param familyId family ID
+     * @return 저장된 family (없으면 null)
+     */
+    RefreshFamily find(String familyId);
+
+    /**
+     * 새 family 를 저장합니다. (로그인)
+     * @param family 저장할 family
+     */
+    void save(RefreshFamily family);
+
+    /**
+     * 저장된 family 가 expected 와 같을 때만 updated 로 바꿉니다.
+     * @param expected find 로 읽은 family
+     * @param updated 바꿀 family
+     * @return 교체 성공 여부 (다른 요청이 먼저 바꿨으면 false)
+     */
+    boolean replace(RefreshFamily expected, RefreshFamily updated);
+
+    /**
+     * 만료된 family 를 정리합니다. (저장소가 자체 TTL 을 지원하면 구현하지 않아도 됩니다)
+     * @param nowMillis 현재 시간 (epoch 밀리초)
+     */
+    default void purgeExpired(long nowMillis) {
+    }
+}
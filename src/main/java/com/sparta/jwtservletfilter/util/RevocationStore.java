@@ -0,0 +1,45 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * 토큰 폐기 정보를 여러 노드가 공유하기 위한 저장소
+ * - TokenRevocationList 는 폐기 시 publish 하고, 다른 노드의 폐기는 subscribe 로 전달받습니다.
+ * - 기동 시 active 로 아직 만료되지 않은 폐기 목록을 읽어 옵니다.
+ * - 기본 구현은 프로세스 내부 저장소(InMemoryRevocationStore)이며, 공유 저장소(Redis 등)를 쓰려면
+ *   이 인터페이스를 구현한 빈을 등록합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public interface RevocationStore {
+
+    /**
+     * 폐기된 토큰 ID 를 저장하고 구독자에게 알립니다.
+     * @param tokenId 토큰 ID (jti)
+     * @param expiresAtMillis 토큰 만료 시간 (epoch 밀리초, 이후에는 보관할 필요 없음)
+     */
+    void publish(String tokenId, long expiresAtMillis);
+
+    /**
+     * 아직 만료되지 않은 폐기 목록을 반환합니다.
+     * @param nowMillis 현재 시간 (epoch 밀리초)
+     * @return 토큰 ID -> 만료 시간
+     */
+    Map<String, Long> active(long nowMillis);
+
+    /**
+     * 폐기 알림을 구독합니다. (자신이 publish 한 항목도 전달될 수 있습니다)
+     * @param listener (토큰 ID, 만료 시간) 을 받는 리스너
+     */
+    void subscribe(BiConsumer<String, Long> listener);
+
+    /**
+     * 만료된 항목을 정리합니다. (저장소가 자체 TTL 을 지원하면 구현하지 않아도 됩니다)
+     * @param nowMillis 현재 시간 (epoch 밀리초)
+     */
+    default void purgeExpired(long nowMillis) {
+    }
+}
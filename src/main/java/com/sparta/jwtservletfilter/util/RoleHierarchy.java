@@ -0,0 +1,105 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * 역할 계층 (예: ADMIN 은 USER 권한을 포함)
+ * - jwt.role.hierarchy=ADMIN>USER 처럼 "상위>하위" 쌍을 쉼표로 구분하여 설정합니다. (전이적으로 적용)
+ * - 시작 시점에 역할별로 "이 역할을 만족하는 역할들의 비트마스크"를 미리 계산하므로,
+ *   요청 처리 중에는 (주체의 역할 비트 & 허용 비트) != 0 비트 연산만 수행합니다.
+ * - 기본값은 계층 없음으로, 각 역할은 자기 자신만 만족합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Component
+public class RoleHierarchy {
+
+    private static final UserRoleEnum[] ROLES = UserRoleEnum.values();
+
+    // 역할(ordinal) -> 그 역할을 만족하는 역할들의 비트마스크
+    private final int[] satisfyingMasks = new int[ROLES.length];
+
+    public RoleHierarchy(@Value("${jwt.role.hierarchy:}") String hierarchy) {
+        // 역할(ordinal) -> 그 역할이 포함하는 역할들의 비트마스크 (자기 자신 포함)
+        int[] implied = new int[ROLES.length];
+        for (UserRoleEnum role : ROLES) {
+            implied[role.ordinal()] = role.mask();
+        }
+        for (String rule : hierarchy.split(",")) {
+            if (rule.isBlank()) {
+                continue;
+            }
+            String[] pair = rule.split(">");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("역할 계층은 '상위>하위' 형식이어야 합니다: " + rule);
+            }
+            UserRoleEnum higher = UserRoleEnum.valueOf(pair[0].trim().toUpperCase(Locale.ROOT));
+            UserRoleEnum lower = UserRoleEnum.valueOf(pair[1].trim().toUpperCase(Locale.ROOT));
+            implied[higher.ordinal()] |= lower.mask();
+        }
+
+        // 전이적 폐포 계산 (역할 수가 적으므로 변화가 없을 때까지 반복)
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (UserRoleEnum role : ROLES) {
+                int expanded = implied[role.ordinal()];
+                for (UserRoleEnum other : ROLES) {
+                    if ((expanded & other.mask()) != 0) {
+                        expanded |= implied[other.ordinal()];
+                    }
+                }
+                if (expanded != implied[role.ordinal()]) {
+                    implied[role.ordinal()] = expanded;
+                    changed = true;
+                }
+            }
+        }
+
+        for (UserRoleEnum required : ROLES) {
+            int mask = 0;
+            for (UserRoleEnum role : ROLES) {
+                if ((implied[role.ordinal()] & required.mask()) != 0) {
+                    mask |= role.mask();
+                }
+            }
+            satisfyingMasks[required.ordinal()] = mask;
+        }
+    }
+
+    /**
+     * 계층이 없는 기본 역할 계층을 반환합니다.
+     * @return 각 역할이 자기 자신만 만족하는 계층
+     */
+    public static RoleHierarchy none() {
+        return new RoleHierarchy("");
+    }
+
+    /**
+     * 필요한 역할을 만족하는 역할들의 비트마스크를 반환합니다.
+     * @param required 필요한 역할
+     * @return 허용 비트마스크
+     */
+    public int allowedMask(UserRoleEnum required) {
+        return satisfyingMasks[required.ordinal()];
+    }
+
+    /**
+     * 여러 역할 중 하나라도 만족하면 되는 경우의 허용 비트마스크를 반환합니다.
+     * @param required 필요한 역할 목록
+     * @return 허용 비트마스크
+     */
+    public int allowedMask(UserRoleEnum... required) {
+        int mask = 0;
+        for (UserRoleEnum role : required) {
+            mask |= allowedMask(role);
+        }
+        return mask;
+    }
+}
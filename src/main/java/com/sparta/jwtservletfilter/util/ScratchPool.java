@@ -0,0 +1,64 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 안전하지 않은 작업용 객체(MessageDigest, Mac, 버퍼)의 재사용 풀
+ * - ThreadLocal 은 가상 스레드(요청마다 새 스레드)에서는 재사용되지 않고 요청마다 새로 만들어지므로, 그 대신 사용합니다.
+ * - 스레드 ID 로 고른 슬롯에서 CAS 로 꺼내고 돌려놓습니다. (락 없음)
+ * - 슬롯이 비어 있으면 새로 만들고, 돌려놓을 슬롯이 차 있으면 버립니다. (풀 크기는 고정)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ScratchPool<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final Supplier<T> factory;
+
+    public ScratchPool(Supplier<T> factory) {
+        // 코어 수의 2배 이상인 2의 거듭제곱 (동시에 CPU 에서 실행 중인 스레드 수를 넉넉히 덮음)
+        int size = Integer.highestOneBit(Math.max(2, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+        this.factory = factory;
+    }
+
+    /**
+     * 객체를 꺼냅니다. 사용이 끝나면 반드시 release 로 돌려놓습니다.
+     * @return 다른 스레드와 공유되지 않는 객체
+     */
+    public T acquire() {
+        int home = slotOf(Thread.currentThread());
+        for (int i = 0; i < 2; i++) {
+            T item = slots.getAndSet((home + i) & mask, null);
+            if (item != null) {
+                return item;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * 객체를 풀에 돌려놓습니다.
+     * @param item acquire 로 꺼낸 객체
+     */
+    public void release(T item) {
+        int home = slotOf(Thread.currentThread());
+        for (int i = 0; i < 2; i++) {
+            if (slots.compareAndSet((home + i) & mask, null, item)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation") // Thread.threadId() 는 Java 19 부터 사용 가능
+    private int slotOf(Thread thread) {
+        long id = thread.getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9; // 연속된 스레드 ID 를 슬롯에 고르게 분산
+        return (hash >>> 16) & mask;
+    }
+}
@@ -0,0 +1,226 @@
+package com.sparta.jwtservletfilter.util;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * kid(Key ID)로 찾는 서명 키 묶음 (불변)
+ * - 새 토큰은 활성 키(active)로 서명하고 헤더에 kid 를 담습니다.
+ * - 검증 시에는 토큰의 kid 로 키를 찾으므로(HashMap 조회 한 번), 이전 키로 서명된 토큰도 만료까지 유효합니다.
+ * - kid 가 없는 토큰(키 묶음 도입 전 발급, jwt.secret.key 로 서명)은 기본 키(legacy)로 검증합니다.
+ * - HS256(공유 비밀 키)과 ES256(P-256 키 쌍)을 kid 별로 섞어 쓸 수 있습니다.
+ *   ES256 키에 개인 키가 없으면 검증만 가능하므로, 리소스 서버에는 공개 키만 배포합니다. (verify-only 노드)
+ *
+ * 키 파일 형식 (properties)
+ * <pre>
+ * active=2026-10                    # 서명에 사용할 kid (없으면 검증 전용)
+ * key.2026-07=...                   # HS256: Base64 로 인코딩된 32바이트 이상의 비밀 키
+ * key.2026-10.public=...            # ES256: Base64 로 인코딩된 공개 키 (X.509 DER)
+ * key.2026-10.private=...           # ES256: Base64 로 인코딩된 개인 키 (PKCS#8 DER, 발급 노드에만 배포)
+ * </pre>
+ * ES256 키는 openssl 로 만들 수 있습니다.
+ * <pre>
+ * openssl ecparam -name prime256v1 -genkey -noout -out ec.pem
+ * openssl pkcs8 -topk8 -nocrypt -in ec.pem -outform DER | base64 -w0   # private
+ * openssl ec -in ec.pem -pubout -outform DER | base64 -w0              # public
+ * </pre>
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SigningKeyRing {
+
+    private static final String ACTIVE = "active";
+    private static final String KEY_PREFIX = "key.";
+    private static final String PUBLIC_SUFFIX = ".public";
+    private static final String PRIVATE_SUFFIX = ".private";
+
+    private final Map<String, Key> keys; // kid -> 검증 키 (HS256: SecretKey, ES256: PublicKey)
+    private final String activeKid; // 서명에 사용할 kid (null 이면 kid 없이 서명하거나 검증 전용)
+    private final Key signingKey; // 서명 키 (null 이면 검증 전용)
+    private final SignatureAlgorithm signingAlgorithm; // 서명 알고리즘
+    private final SecretKey legacyKey; // kid 가 없는 토큰의 검증 키 (없으면 null)
+
+    private SigningKeyRing(Map<String, Key> keys, String activeKid, Key signingKey,
+                           SignatureAlgorithm signingAlgorithm, SecretKey legacyKey) {
+        this.keys = Collections.unmodifiableMap(keys);
+        this.activeKid = activeKid;
+        this.signingKey = signingKey;
+        this.signingAlgorithm = signingAlgorithm;
+        this.legacyKey = legacyKey;
+    }
+
+    /**
+     * 단일 키만 사용하는 키 묶음을 만듭니다. (키 파일을 설정하지 않은 경우, 이전과 동일하게 kid 없이 HS256 으로 서명)
+     * @param secret 비밀 키
+     * @return 키 묶음
+     */
+    public static SigningKeyRing single(byte[] secret) {
+        SecretKey key = Keys.hmacShaKeyFor(secret);
+        return new SigningKeyRing(Map.of(), null, key, SignatureAlgorithm.HS256, key);
+    }
+
+    /**
+     * 키 파일에서 키 묶음을 읽습니다.
+     * @param file 키 파일
+     * @param legacySecret kid 없는 토큰을 검증할 기본 키 (없으면 null)
+     * @return 키 묶음
+     * @throws IllegalArgumentException 활성 키가 없거나 키 형식이 잘못된 경우
+     */
+    public static SigningKeyRing load(Path file, byte[] legacySecret) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("키 파일을 읽을 수 없습니다. : " + file, e);
+        }
+
+        Map<String, Key> keys = new HashMap<>();
+        Map<String, PrivateKey> privateKeys = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (!name.startsWith(KEY_PREFIX)) {
+                continue;
+            }
+            byte[] encoded = Base64.getDecoder().decode(properties.getProperty(name).trim());
+            if (name.endsWith(PUBLIC_SUFFIX)) {
+                keys.put(kidOf(name, PUBLIC_SUFFIX), ecKey(new X509EncodedKeySpec(encoded), name));
+            } else if (name.endsWith(PRIVATE_SUFFIX)) {
+                privateKeys.put(kidOf(name, PRIVATE_SUFFIX), (PrivateKey) ecKey(new PKCS8EncodedKeySpec(encoded), name));
+            } else {
+                // 32바이트 미만이면 WeakKeyException 이 발생합니다.
+                keys.put(name.substring(KEY_PREFIX.length()), Keys.hmacShaKeyFor(encoded));
+            }
+        }
+        for (String kid : privateKeys.keySet()) {
+            if (!keys.containsKey(kid)) {
+                throw new IllegalArgumentException("개인 키에 대응하는 공개 키가 없습니다. : " + kid);
+            }
+        }
+        SecretKey legacyKey = legacySecret != null ? Keys.hmacShaKeyFor(legacySecret) : null;
+
+        String activeKid = properties.getProperty(ACTIVE, "").trim();
+        if (activeKid.isEmpty()) {
+            // 활성 키가 없으면 검증 전용 노드입니다.
+            return new SigningKeyRing(keys, null, null, null, legacyKey);
+        }
+        Key active = keys.get(activeKid);
+        if (active == null) {
+            throw new IllegalArgumentException("활성 키(active)가 키 목록에 없습니다. : " + activeKid);
+        }
+        if (active instanceof SecretKey) {
+            return new SigningKeyRing(keys, activeKid, active, SignatureAlgorithm.HS256, legacyKey);
+        }
+        // ES256 활성 키에 개인 키가 없으면 검증 전용 (kid 는 남겨 두어 어떤 키로 발급되는지 알 수 있게 함)
+        return new SigningKeyRing(keys, activeKid, privateKeys.get(activeKid), SignatureAlgorithm.ES256, legacyKey);
+    }
+
+    /**
+     * 서명에 사용할 kid 를 반환합니다.
+     * @return kid (단일 키 모드이거나 검증 전용이면 null 일 수 있음)
+     */
+    public String activeKid() {
+        return activeKid;
+    }
+
+    /**
+     * 서명에 사용할 키를 반환합니다.
+     * @return 서명 키 (HS256 비밀 키 또는 ES256 개인 키)
+     * @throws IllegalStateException 검증 전용 노드인 경우
+     */
+    public Key signingKey() {
+        if (signingKey == null) {
+            throw new IllegalStateException("검증 전용 키 묶음으로는 토큰을 발급할 수 없습니다.");
+        }
+        return signingKey;
+    }
+
+    /**
+     * 서명 알고리즘을 반환합니다.
+     * @return HS256 또는 ES256 (검증 전용이면 null)
+     */
+    public SignatureAlgorithm signingAlgorithm() {
+        return signingAlgorithm;
+    }
+
+    /**
+     * 토큰을 발급할 수 있는지 확인합니다.
+     * @return 서명 키 보유 여부
+     */
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    /**
+     * 토큰의 kid 에 해당하는 검증 키를 반환합니다.
+     * @param kid 토큰 헤더의 kid (없으면 null)
+     * @return 검증 키 (없으면 null)
+     */
+    public Key verificationKey(String kid) {
+        return kid == null ? legacyKey : keys.get(kid);
+    }
+
+    /**
+     * kid 별 HS256 키만 반환합니다. (HS256 고속 검증기 생성용, ES256 토큰은 jjwt 로 검증)
+     * @return kid -> 비밀 키
+     */
+    public Map<String, SecretKey> hmacKeys() {
+        Map<String, SecretKey> hmacKeys = new HashMap<>();
+        keys.forEach((kid, key) -> {
+            if (key instanceof SecretKey secretKey) {
+                hmacKeys.put(kid, secretKey);
+            }
+        });
+        return hmacKeys;
+    }
+
+    /**
+     * kid 별 검증 키 수를 반환합니다.
+     * @return 키 수
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * kid 없는 토큰의 검증 키를 반환합니다.
+     * @return 기본 키 (없으면 null)
+     */
+    public SecretKey legacyKey() {
+        return legacyKey;
+    }
+
+    private static String kidOf(String name, String suffix) {
+        return name.substring(KEY_PREFIX.length(), name.length() - suffix.length());
+    }
+
+    private static Key ecKey(java.security.spec.KeySpec spec, String name) {
+        try {
+            KeyFactory factory = KeyFactory.getInstance("EC");
+            return spec instanceof PKCS8EncodedKeySpec pkcs8
+                    ? factory.generatePrivate(pkcs8)
+                    : factory.generatePublic(spec);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("EC 키 형식이 올바르지 않습니다. : " + name, e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import com.sparta.jwtservletfilter.config.P6SpyFomatter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구문 형태별 SQL 실행 시간 기록기 (P6Spy JdbcEventListener)
+ * - p6spy-spring-boot-starter 는 JdbcEventListener 빈을 찾아 모든 JDBC 실행에 연결합니다.
+ * - 실행 시간은 sql.statement{statement,outcome} 타이머(히스토그램)에 합산하며, statement 태그는
+ *   "select users", "insert users" 처럼 구문 종류와 첫 테이블만 남깁니다. (바인딩 값과 무관하게 태그 수가 일정)
+ * - SQL 문자열별 타이머는 처음 한 번만 만들어 보관하므로, 이후 실행은 맵 조회와 기록만 합니다. (문자열 포맷 없음)
+ *   보관 한도(MAX_SHAPES)를 넘은 뒤의 새 SQL 은 미리 등록한 statement="overflow" 타이머에 합산합니다.
+ * - 느린 구문(slow-threshold-ms 이상)과 표본(sample-rate 분의 1)만 바인딩 값을 채워 정렬한 SQL 을 로그로 남깁니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "SqlTiming")
+@Component
+public class SqlTimingRecorder extends SimpleJdbcEventListener {
+
+    // 보관할 SQL 문자열 수 (넘으면 이후 새 문자열은 "overflow" 타이머에 합산)
+    private static final int MAX_SHAPES = 1024;
+
+    private final boolean enabled;
+    private final long slowThresholdNanos;
+    private final int sampleRate;
+    private final MeterRegistry meterRegistry;
+    // SQL 문자열 -> [성공, 실패] 타이머
+    private final Map<String, Timer[]> timers = new ConcurrentHashMap<>();
+    // MAX_SHAPES 를 넘은 뒤의 새 SQL 문자열용 [성공, 실패] 타이머 (미리 등록, 형태 계산 없음)
+    private final Timer[] overflowTimers;
+
+    public SqlTimingRecorder(MeterRegistry meterRegistry,
+                             @Value("${sql.timing.enabled:false}") boolean enabled,
+                             @Value("${sql.timing.slow-threshold-ms:200}") long slowThresholdMs,
+                             @Value("${sql.timing.sample-rate:0}") int sampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.sampleRate = sampleRate;
+        this.overflowTimers = timers("overflow");
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        if (!enabled) {
+            return;
+        }
+        String sql = statementInformation.getSql();
+        if (sql == null) {
+            return;
+        }
+        timersOf(sql)[e == null ? 0 : 1].record(timeElapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (timeElapsedNanos >= slowThresholdNanos && log.isWarnEnabled()) {
+            log.warn("느린 SQL {} ms\n{}", TimeUnit.NANOSECONDS.toMillis(timeElapsedNanos),
+                    P6SpyFomatter.prettyPrint(statementInformation.getSqlWithValues()));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextInt(sampleRate) == 0 && log.isInfoEnabled()) {
+            log.info("SQL 표본 {} ms\n{}", TimeUnit.NANOSECONDS.toMillis(timeElapsedNanos),
+                    P6SpyFomatter.prettyPrint(statementInformation.getSqlWithValues()));
+        }
+    }
+
+    private Timer[] timersOf(String sql) {
+        Timer[] found = timers.get(sql);
+        if (found != null) {
+            return found;
+        }
+        if (timers.size() >= MAX_SHAPES) {
+            // 보관 한도를 넘은 새 SQL 은 형태 계산과 미터 조회 없이 overflow 타이머에 합산합니다.
+            return overflowTimers;
+        }
+        // 미터 레지스트리는 이름과 태그가 같으면 같은 타이머를 돌려주므로, 형태가 같은 SQL 은 한 타이머에 합산됩니다.
+        return timers.computeIfAbsent(sql, key -> timers(shapeOf(key)));
+    }
+
+    private Timer[] timers(String shape) {
+        return new Timer[]{timer(shape, "success"), timer(shape, "error")};
+    }
+
+    private Timer timer(String shape, String outcome) {
+        return Timer.builder("sql.statement")
+                .description("SQL 실행 시간 (구문 형태별)")
+                .tag("statement", shape)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * SQL 의 구문 종류와 첫 테이블 이름으로 형태를 만듭니다.
+     * 예) "select u1_0.id from users u1_0 where ..." -> "select users", DDL -> "ddl"
+     * @param sql SQL 문자열
+     * @return 구문 형태
+     */
+    static String shapeOf(String sql) {
+        String[] words = sql.trim().toLowerCase(Locale.ROOT).split("[\\s(),]+");
+        if (words.length == 0 || words[0].isEmpty()) {
+            return "other";
+        }
+        String kind = words[0];
+        return switch (kind) {
+            case "select", "delete" -> kind + tableAfter(words, "from");
+            case "insert" -> kind + tableAfter(words, "into");
+            case "update" -> words.length > 1 ? kind + " " + words[1] : kind;
+            case "create", "alter", "drop", "truncate", "comment" -> "ddl";
+            default -> "other";
+        };
+    }
+
+    private static String tableAfter(String[] words, String keyword) {
+        for (int i = 1; i < words.length - 1; i++) {
+            if (words[i].equals(keyword)) {
+                return " " + words[i + 1];
+            }
+        }
+        return "";
+    }
+}
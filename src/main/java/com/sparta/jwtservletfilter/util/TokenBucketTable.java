@@ -0,0 +1,143 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 고정 크기 토큰 버킷 표 (키 수와 무관하게 메모리가 일정한 요청 수 제한기)
+ * - 버킷마다 GCRA(Generic Cell Rate Algorithm)의 "이론상 다음 도착 시각(TAT)" 하나만 저장합니다.
+ *   TAT - now 가 허용 버스트(burst - 1 개분) 이내이면 허용하고, TAT 를 한 요청 간격만큼 늘립니다.
+ *   (토큰 버킷과 같은 결과이며, 토큰 수와 마지막 충전 시각을 따로 보관할 필요가 없음)
+ * - 슬롯 하나는 long 하나에 [키 지문 20비트 | TAT 44비트(생성 시각 기준 밀리초)] 를 함께 담습니다.
+ *   허용 여부는 읽은 값으로 새 TAT 를 계산해 한도를 확인한 뒤, 그 값에 대한 CAS 한 번으로 확정합니다.
+ *   (CAS 가 실패하면 다시 읽어 판단하므로, 동시에 몇 개의 요청이 와도 한 키에 burst 개를 넘겨 허용하지 않음)
+ * - 키는 해시로 후보 슬롯 2개에 대응시킵니다. 지문이 같은 슬롯이 있으면 그 슬롯을, 없으면 가득 충전된
+ *   (TAT 가 지난, 즉 보관할 상태가 없는) 슬롯을 차지합니다. 두 슬롯이 모두 다른 키의 진행 중인 버킷이면
+ *   TAT 가 이른 쪽을 함께 소모합니다. (표가 가득 찬 경우에만 발생하며, 한도를 줄이는 방향으로만 작용)
+ * - 해시 시드는 프로세스마다 무작위이므로, 특정 키와 같은 슬롯을 쓰는 키를 미리 만들어 둘 수 없습니다.
+ * - 슬롯은 AtomicLongArray 의 CAS 로만 갱신합니다. (락 없음)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TokenBucketTable {
+
+    private static final int TAT_BITS = 44; // 약 557년 (밀리초)
+    private static final long TAT_MASK = (1L << TAT_BITS) - 1;
+
+    private final AtomicLongArray slots;
+    private final int mask;
+    private final long intervalMs;   // 토큰 하나가 충전되는 시간
+    private final long toleranceMs;  // 허용 버스트 (burst - 1) * intervalMs
+    private final long seed;
+    private final long baseMs;       // TAT 의 기준 시각
+    private final LongSupplier clock;
+
+    /**
+     * @param slots 슬롯 수 (2의 거듭제곱으로 올림)
+     * @param burst 한 번에 허용하는 최대 요청 수 (버킷 용량)
+     * @param intervalMs 토큰 하나가 충전되는 시간 (밀리초)
+     * @param clock 현재 시간 (밀리초)
+     */
+    public TokenBucketTable(int slots, int burst, long intervalMs, LongSupplier clock) {
+        if (slots <= 0 || burst <= 0 || intervalMs <= 0) {
+            throw new IllegalArgumentException("slots, burst, intervalMs 는 0보다 커야 합니다.");
+        }
+        int size = Integer.highestOneBit(Math.max(2, slots - 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.intervalMs = intervalMs;
+        this.toleranceMs = (burst - 1) * intervalMs;
+        this.seed = new SecureRandom().nextLong();
+        // 0 은 "비어 있는 슬롯" 과 구분되지 않으므로, 기준 시각을 1ms 앞당깁니다.
+        this.baseMs = clock.getAsLong() - 1;
+        this.clock = clock;
+    }
+
+    /**
+     * 키의 버킷에서 토큰 하나를 꺼냅니다.
+     * @param key 제한 대상 키 (IP, 사용자 이름 등)
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 시간 (밀리초, 1 이상)
+     */
+    public long tryAcquire(String key) {
+        long hash = hash64(key);
+        int first = (int) hash & mask;
+        int second = (int) (hash >>> 32) & mask;
+        if (second == first) {
+            second = (first + 1) & mask;
+        }
+        // 슬롯 위치와 겹치지 않도록 비트를 다시 섞어 지문을 만듭니다. (0 은 빈 슬롯의 지문이므로 사용하지 않음)
+        long fingerprint = Math.max(1, ((hash ^ (hash >>> 29)) * 0x9E3779B97F4A7C15L) >>> TAT_BITS);
+
+        while (true) {
+            long now = Math.max(1, clock.getAsLong() - baseMs);
+            long firstWord = slots.get(first);
+            long secondWord = slots.get(second);
+
+            int slot;
+            long word;
+            long owner;
+            if (fingerprintOf(firstWord) == fingerprint) {
+                slot = first;
+                word = firstWord;
+                owner = fingerprint;
+            } else if (fingerprintOf(secondWord) == fingerprint) {
+                slot = second;
+                word = secondWord;
+                owner = fingerprint;
+            } else if (tatOf(firstWord) <= now) {
+                // 가득 충전된 버킷은 상태가 없으므로 차지합니다. (항상 첫 번째 후보부터 확인)
+                slot = first;
+                word = firstWord;
+                owner = fingerprint;
+            } else if (tatOf(secondWord) <= now) {
+                slot = second;
+                word = secondWord;
+                owner = fingerprint;
+            } else {
+                // 두 후보 모두 다른 키가 사용 중: 덜 소모된 쪽을 함께 소모합니다. (소유자는 유지)
+                boolean firstEarlier = tatOf(firstWord) <= tatOf(secondWord);
+                slot = firstEarlier ? first : second;
+                word = firstEarlier ? firstWord : secondWord;
+                owner = fingerprintOf(word);
+            }
+
+            long tat = owner == fingerprintOf(word) ? Math.max(tatOf(word), now) : now;
+            long wait = tat - now - toleranceMs;
+            if (wait > 0) {
+                return wait;
+            }
+            if (slots.compareAndSet(slot, word, (owner << TAT_BITS) | ((tat + intervalMs) & TAT_MASK))) {
+                return 0;
+            }
+            // 다른 요청이 먼저 갱신했으면 새 값으로 다시 판단합니다.
+        }
+    }
+
+    private static long fingerprintOf(long word) {
+        return word >>> TAT_BITS;
+    }
+
+    private static long tatOf(long word) {
+        return word & TAT_MASK;
+    }
+
+    /**
+     * 시드를 섞은 FNV-1a(64) 후 MurmurHash3 fmix64 로 비트를 섞습니다.
+     */
+    private long hash64(String value) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
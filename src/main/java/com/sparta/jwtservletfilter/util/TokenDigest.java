@@ -0,0 +1,44 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 문자열의 SHA-256 해시
+ * - 토큰 원문 대신 해시를 맵 키로 사용합니다. (메모리/덤프에 원문이 남지 않음)
+ * - ByteBuffer 는 내용 기반으로 equals/hashCode 를 계산하므로 맵 키로 사용할 수 있습니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TokenDigest {
+
+    // MessageDigest 는 스레드 안전하지 않으므로 풀에서 꺼내 재사용합니다. (가상 스레드에서도 재사용됨)
+    private static final ScratchPool<MessageDigest> SHA_256 = new ScratchPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private TokenDigest() {
+    }
+
+    /**
+     * 토큰의 SHA-256 해시를 반환합니다.
+     * @param token 토큰 문자열
+     * @return 32바이트 해시
+     */
+    public static ByteBuffer sha256(String token) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+}
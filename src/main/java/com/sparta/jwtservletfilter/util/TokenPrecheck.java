@@ -0,0 +1,154 @@
+package com.sparta.jwtservletfilter.util;
+
+import java.util.Arrays;
+
+/**
+ * 서명 검증 전의 토큰 사전 검사
+ * - 세그먼트 수, 길이, 문자 집합, 서명되지 않은 exp 만 확인하여 명백히 거부될 토큰을 먼저 걸러냅니다.
+ * - 문자열을 한 번 훑기만 하므로 SHA-256(캐시 키)이나 HMAC 계산, 예외 생성보다 훨씬 쌉니다.
+ * - exp 는 서명 검증 전의 값이므로 "거부"에만 사용합니다. (exp 를 조작해도 자기 토큰이 거부될 뿐)
+ * - 통과한 토큰도 유효하다는 뜻은 아니며, 이후 서명 검증을 반드시 거칩니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TokenPrecheck {
+
+    // 이보다 긴 토큰은 거부합니다. (Tomcat 기본 헤더 크기 8KB)
+    static final int MAX_TOKEN_LENGTH = 8192;
+    // 이보다 긴 헤더 세그먼트(Base64URL)는 거부합니다. (alg, kid 만 쓰는 헤더는 100자 미만)
+    static final int MAX_HEADER_SEGMENT_LENGTH = 512;
+    // exp 로 읽을 최대 자릿수 (long 범위를 넘지 않도록)
+    private static final int MAX_EXP_DIGITS = 18;
+
+    private static final byte[] EXP_KEY = {'"', 'e', 'x', 'p', '"'};
+
+    // Base64URL 문자 -> 6비트 값 (-1: 허용되지 않는 문자)
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        Arrays.fill(BASE64URL, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private TokenPrecheck() {
+    }
+
+    /**
+     * 서명 검증 없이 거부할 수 있는 토큰인지 확인합니다.
+     * @param token JWT 토큰
+     * @param nowMillis 현재 시각 (밀리초)
+     * @return 거부 사유 (사전 검사를 통과하면 null)
+     */
+    public static TokenRejectReason check(String token, long nowMillis) {
+        if (token == null || token.isEmpty()) {
+            return TokenRejectReason.MALFORMED;
+        }
+        int length = token.length();
+        if (length > MAX_TOKEN_LENGTH) {
+            return TokenRejectReason.OVERSIZED;
+        }
+
+        // 1. header.payload.signature 세 구간과 문자 집합 확인
+        int headerEnd = -1;
+        int payloadEnd = -1;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (headerEnd < 0) {
+                    headerEnd = i;
+                } else if (payloadEnd < 0) {
+                    payloadEnd = i;
+                } else {
+                    return TokenRejectReason.MALFORMED; // 세그먼트가 3개보다 많음 (JWE 등)
+                }
+            } else if (c >= 128 || BASE64URL[c] < 0) {
+                return TokenRejectReason.MALFORMED;
+            }
+        }
+        if (payloadEnd < 0 || headerEnd == 0 || payloadEnd == headerEnd + 1) {
+            return TokenRejectReason.MALFORMED;
+        }
+        if (headerEnd > MAX_HEADER_SEGMENT_LENGTH) {
+            return TokenRejectReason.OVERSIZED;
+        }
+        if (payloadEnd == length - 1) {
+            return TokenRejectReason.UNSUPPORTED; // 서명 없는 토큰 (alg=none)
+        }
+        if (headerEnd % 4 == 1 || (payloadEnd - headerEnd - 1) % 4 == 1 || (length - payloadEnd - 1) % 4 == 1) {
+            return TokenRejectReason.MALFORMED; // Base64URL 로 디코딩할 수 없는 길이
+        }
+
+        // 2. 서명되지 않은 exp 로 이미 만료된 토큰 확인 (jjwt 와 같이 now > exp 이면 만료)
+        long exp = unverifiedExp(token, headerEnd + 1, payloadEnd);
+        if (exp >= 0 && nowMillis > exp * 1000) {
+            return TokenRejectReason.EXPIRED;
+        }
+        return null;
+    }
+
+    /**
+     * 페이로드 구간 [from, to) 를 버퍼 없이 디코딩하면서 "exp" : 숫자 를 찾습니다.
+     * - JSON 문자열 안의 따옴표는 이스케이프되므로, "exp" 뒤에 콜론이 오면 키입니다.
+     * @return exp (초), 찾지 못했거나 정수가 아니면 -1
+     */
+    static long unverifiedExp(String token, int from, int to) {
+        int matched = 0;     // "exp" 와 일치한 바이트 수
+        boolean afterKey = false;   // "exp" 뒤, 콜론 전
+        boolean inValue = false;    // 콜론 뒤, 숫자 전/중
+        long value = 0;
+        int digits = 0;
+
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = from; i < to; i++) {
+            bits = (bits << 6) | BASE64URL[token.charAt(i)];
+            bitCount += 6;
+            if (bitCount < 8) {
+                continue;
+            }
+            bitCount -= 8;
+            int b = (bits >> bitCount) & 0xFF;
+
+            if (inValue) {
+                if (b >= '0' && b <= '9') {
+                    if (++digits > MAX_EXP_DIGITS) {
+                        return -1;
+                    }
+                    value = value * 10 + (b - '0');
+                    continue;
+                }
+                if (digits == 0 && isWhitespace(b)) {
+                    continue;
+                }
+                return digits > 0 && b != '.' && b != 'e' && b != 'E' ? value : -1;
+            }
+            if (afterKey) {
+                if (b == ':') {
+                    inValue = true;
+                } else if (!isWhitespace(b)) {
+                    afterKey = false;
+                    matched = b == '"' ? 1 : 0;
+                }
+                continue;
+            }
+            if (b == EXP_KEY[matched]) {
+                if (++matched == EXP_KEY.length) {
+                    afterKey = true;
+                    matched = 0;
+                }
+            } else {
+                matched = b == '"' ? 1 : 0;
+            }
+        }
+        return inValue && digits > 0 ? value : -1;
+    }
+
+    private static boolean isWhitespace(int b) {
+        return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparta.jwtservletfilter.util;
+
+/**
+ * 토큰 검증 실패 사유
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public enum TokenRejectReason {
+    EXPIRED,        // 만료된 토큰
+    BAD_SIGNATURE,  // 서명 불일치
+    MALFORMED,      // 형식 오류, 필수 클레임 누락
+    UNSUPPORTED,    // 지원하지 않는 형식/알고리즘, 알 수 없는 kid
+    OVERSIZED       // 토큰 또는 헤더가 허용 길이를 넘음
+}
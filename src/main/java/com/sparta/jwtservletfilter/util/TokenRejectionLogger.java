@@ -0,0 +1,104 @@
+package com.sparta.jwtservletfilter.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 검증 실패 로그의 빈도 제한기
+ * - 만료/변조된 토큰은 정상적인 상황에서도 자주 들어오므로, 요청마다 스택 트레이스를 남기지 않습니다.
+ * - 실패 사유별로 주기(interval)당 한 줄만 WARN 으로 남기고, 그 사이의 실패는 횟수로 합산합니다.
+ *   예) JWT 토큰 거부 reason=expired count=1532 windowMs=10000 example="JWT expired at ..."
+ * - 예시(example)는 주기마다 처음 들어온 실패의 예외 클래스와 메시지만 남깁니다. (스택 트레이스는 DEBUG 에서만)
+ * - 주기 확인은 CAS 한 번이므로, 실패 요청이 몰려도 로깅 때문에 스레드가 줄을 서지 않습니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "TokenRejection")
+public class TokenRejectionLogger {
+
+    // 예시 메시지의 최대 길이 (토큰 전체가 메시지에 들어가는 경우를 막기 위함)
+    private static final int MAX_EXAMPLE_LENGTH = 200;
+
+    private final long intervalMs;
+    private final LongSupplier clock;
+    // 사유별 직전 로그 이후 실패 횟수
+    private final AtomicLong[] pending;
+    // 사유별 다음 로그를 남길 수 있는 시각
+    private final AtomicLongArray nextLogAt;
+    // 사유별 이번 주기의 예시 메시지
+    private final AtomicReferenceArray<String> examples;
+
+    public TokenRejectionLogger(long intervalMs) {
+        this(intervalMs, System::currentTimeMillis);
+    }
+
+    public TokenRejectionLogger(long intervalMs, LongSupplier clock) {
+        int reasons = TokenRejectReason.values().length;
+        this.intervalMs = Math.max(0, intervalMs);
+        this.clock = clock;
+        this.pending = new AtomicLong[reasons];
+        for (int i = 0; i < reasons; i++) {
+            pending[i] = new AtomicLong();
+        }
+        this.nextLogAt = new AtomicLongArray(reasons);
+        this.examples = new AtomicReferenceArray<>(reasons);
+    }
+
+    /**
+     * 검증 실패를 기록합니다.
+     * - 주기가 지났으면 이 호출에서 한 줄을 남기고, 아니면 횟수만 더합니다.
+     * @param reason 실패 사유
+     * @param e 검증 중 발생한 예외
+     * @return 이 호출에서 로그를 남겼는지 여부
+     */
+    public boolean reject(TokenRejectReason reason, Exception e) {
+        if (log.isDebugEnabled()) {
+            log.debug("JWT 토큰 거부 reason={}", key(reason), e);
+        }
+        return record(reason, e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+
+    /**
+     * 예외 없이 거부된 검증 실패를 기록합니다. (서명 검증 전 사전 검사)
+     * @param reason 실패 사유
+     * @param detail 예시로 남길 설명
+     * @return 이 호출에서 로그를 남겼는지 여부
+     */
+    public boolean reject(TokenRejectReason reason, String detail) {
+        return record(reason, detail);
+    }
+
+    private boolean record(TokenRejectReason reason, String detail) {
+        int i = reason.ordinal();
+        pending[i].incrementAndGet();
+        if (examples.get(i) == null) {
+            examples.compareAndSet(i, null, truncate(detail));
+        }
+
+        long now = clock.getAsLong();
+        long next = nextLogAt.get(i);
+        if (now < next || !nextLogAt.compareAndSet(i, next, now + intervalMs)) {
+            return false;
+        }
+        // 주기를 차지한 스레드 하나만 합산 횟수와 예시를 가져가서 로그를 남깁니다.
+        long count = pending[i].getAndSet(0);
+        String example = examples.getAndSet(i, null);
+        log.warn("JWT 토큰 거부 reason={} count={} windowMs={} example=\"{}\"", key(reason), count, intervalMs, example);
+        return true;
+    }
+
+    private static String key(TokenRejectReason reason) {
+        return reason.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_EXAMPLE_LENGTH ? message.substring(0, MAX_EXAMPLE_LENGTH) + "..." : message;
+    }
+}
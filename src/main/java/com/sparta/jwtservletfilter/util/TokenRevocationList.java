@@ -0,0 +1,140 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 폐기된 토큰 목록 (로그아웃, 강제 폐기)
+ * - 토큰 ID(jti)와 토큰 만료 시간을 메모리에 보관하므로, 요청마다 DB 를 조회하지 않습니다.
+ * - 앞단의 블룸 필터가 폐기되지 않은 대부분의 토큰을 해시 계산만으로 통과시키고,
+ *   "있을 수도 있음" 인 경우에만 실제 목록(ConcurrentHashMap)을 확인합니다.
+ * - 토큰이 만료되면 폐기 항목도 필요 없으므로, 주기적으로 만료 항목을 지우고 블룸 필터를 다시 만듭니다.
+ * - 폐기 정보는 RevocationStore 로 다른 노드와 공유합니다.
+ * - jti 가 없는 이전 토큰은 폐기할 수 없습니다. (만료까지 유효)
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+@Slf4j(topic = "TokenRevocationList")
+@Component
+public class TokenRevocationList {
+
+    private final RevocationStore store;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final LongSupplier clock; // 현재 시간 (밀리초)
+
+    // 토큰 ID -> 토큰 만료 시간 (epoch 밀리초)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    // 폐기 목록의 앞단 필터 (다시 만들 때 통째로 교체)
+    private volatile BloomFilter bloomFilter;
+    // 추가와 필터 재생성이 겹쳐 새 필터에서 항목이 빠지지 않도록 쓰기 작업만 직렬화합니다. (조회는 락 없음)
+    // synchronized 는 가상 스레드가 기다리는 동안 캐리어 스레드를 붙잡으므로(pinning) ReentrantLock 을 사용합니다.
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    @Autowired
+    public TokenRevocationList(RevocationStore store,
+                               @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                               @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this(store, expectedInsertions, falsePositiveRate, System::currentTimeMillis);
+    }
+
+    public TokenRevocationList(RevocationStore store, int expectedInsertions, double falsePositiveRate, LongSupplier clock) {
+        this.store = store;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.clock = clock;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        // 구독을 먼저 하고 기존 목록을 읽어, 그 사이에 들어온 폐기도 놓치지 않습니다.
+        store.subscribe(this::add);
+        store.active(clock.getAsLong()).forEach(this::add);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다.
+     * @param tokenId 토큰 ID (jti, null 이면 폐기 대상이 아님)
+     * @return 폐기 여부
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revoked.containsKey(tokenId);
+    }
+
+    /**
+     * 검증된 토큰을 폐기합니다.
+     * @param principal 검증된 주체 정보
+     * @return 폐기 여부 (jti 가 없는 토큰은 false)
+     */
+    public boolean revoke(JwtPrincipal principal) {
+        if (principal.tokenId() == null) {
+            return false;
+        }
+        revoke(principal.tokenId(), principal.expiration());
+        return true;
+    }
+
+    /**
+     * 토큰을 만료 시간까지 폐기합니다.
+     * @param tokenId 토큰 ID (jti)
+     * @param expiration 토큰 만료 시간
+     */
+    public void revoke(String tokenId, Instant expiration) {
+        long expiresAt = expiration.toEpochMilli();
+        if (expiresAt <= clock.getAsLong()) {
+            return; // 이미 만료된 토큰은 폐기할 필요가 없습니다.
+        }
+        add(tokenId, expiresAt); // 공유 저장소가 비동기여도 이 노드에는 즉시 반영
+        store.publish(tokenId, expiresAt);
+    }
+
+    /**
+     * 현재 보관 중인 폐기 항목 수를 반환합니다.
+     * @return 폐기 항목 수
+     */
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * 만료된 항목을 지우고 블룸 필터를 다시 만듭니다.
+     * - 블룸 필터는 값을 지울 수 없으므로, 남은 항목으로 새 필터를 만들어 교체합니다.
+     * - 항목 수가 예상치를 넘으면 필터 크기를 늘려 오탐률을 유지합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        long now = clock.getAsLong();
+        writeLock.lock();
+        try {
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size() * 2), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            bloomFilter = rebuilt;
+        } finally {
+            writeLock.unlock();
+        }
+        store.purgeExpired(now);
+        log.debug("폐기 목록 정리 : {} 건", revoked.size());
+    }
+
+    private void add(String tokenId, long expiresAt) {
+        writeLock.lock();
+        try {
+            revoked.merge(tokenId, expiresAt, Math::max);
+            bloomFilter.put(tokenId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
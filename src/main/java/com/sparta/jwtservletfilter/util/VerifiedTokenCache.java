@@ -0,0 +1,61 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 서명 검증이 끝난 토큰의 캐시
+ * - 원본 토큰 문자열의 SHA-256 해시를 키로, 검증된 주체 정보를 값으로 저장합니다.
+ * - 각 항목은 토큰의 exp 시각에 만료되므로, 만료된 토큰이 캐시로 통과되는 일은 없습니다.
+ * - 캐시 적중 시 서명 검증과 JSON 파싱을 모두 생략합니다.
+ *
+ * @author JaeHwan Kim
+ * @version 1.0
+ * @since 1.0
+ */
+public class VerifiedTokenCache {
+
+    private final ExpiringCache<ByteBuffer, JwtPrincipal> cache;
+
+    public VerifiedTokenCache(int maxSize, EvictionPolicy evictionPolicy) {
+        this.cache = new ExpiringCache<>(maxSize, evictionPolicy);
+    }
+
+    /**
+     * 검증된 주체 정보를 조회합니다.
+     * @param token JWT 토큰
+     * @return 주체 정보 (없거나 만료되었으면 null)
+     */
+    public JwtPrincipal get(String token) {
+        return cache.get(keyOf(token));
+    }
+
+    /**
+     * 검증된 주체 정보를 토큰의 만료 시각까지 저장합니다.
+     * @param token JWT 토큰
+     * @param principal 검증된 주체 정보
+     */
+    public void put(String token, JwtPrincipal principal) {
+        cache.put(keyOf(token), principal, principal.expiration().toEpochMilli());
+    }
+
+    /**
+     * 캐시의 모든 항목을 제거합니다. (서명 키가 바뀐 경우)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 통계를 반환합니다.
+     * @return 적중/실패/제거 횟수와 현재 크기
+     */
+    public ExpiringCache.CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static ByteBuffer keyOf(String token) {
+        return TokenDigest.sha256(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.sparta.jwtservletfilter.config;
+
+import com.sparta.jwtservletfilter.util.InMemoryRefreshTokenStore;
+import com.sparta.jwtservletfilter.util.InMemoryRevocationStore;
+import com.sparta.jwtservletfilter.util.RefreshTokenStore;
+import com.sparta.jwtservletfilter.util.RevocationStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevocationStoreAutoConfigurationTest {
+
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RevocationStoreAutoConfiguration.class));
+
+    @Test
+    void registersInMemoryStoresByDefault() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(RevocationStore.class);
+            assertThat(context).hasSingleBean(RefreshTokenStore.class);
+            assertThat(context.getBean(RevocationStore.class)).isInstanceOf(InMemoryRevocationStore.class);
+        });
+    }
+
+    @Test
+    void backsOffWhenUserConfigurationDefinesStores() {
+        runner.withUserConfiguration(SharedStoreConfig.class).run(context -> {
+            assertThat(context).hasSingleBean(RevocationStore.class);
+            assertThat(context).hasSingleBean(RefreshTokenStore.class);
+            assertThat(context.getBean(RevocationStore.class)).isSameAs(SharedStoreConfig.REVOCATION_STORE);
+            assertThat(context.getBean(RefreshTokenStore.class)).isSameAs(SharedStoreConfig.REFRESH_TOKEN_STORE);
+        });
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    static class SharedStoreConfig {
+        static final RevocationStore REVOCATION_STORE = new InMemoryRevocationStore();
+        static final RefreshTokenStore REFRESH_TOKEN_STORE = new InMemoryRefreshTokenStore();
+
+        @Bean
+        RevocationStore sharedRevocationStore() {
+            return REVOCATION_STORE;
+        }
+
+        @Bean
+        RefreshTokenStore sharedRefreshTokenStore() {
+            return REFRESH_TOKEN_STORE;
+        }
+    }
+}
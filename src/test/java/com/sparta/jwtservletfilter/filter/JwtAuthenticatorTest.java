@@ -0,0 +1,132 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.filter.JwtAuthenticator.AuthDecision;
+import com.sparta.jwtservletfilter.util.AuthMetrics;
+import com.sparta.jwtservletfilter.util.AuthMetrics.Outcome;
+import com.sparta.jwtservletfilter.util.InMemoryRevocationStore;
+import com.sparta.jwtservletfilter.util.JwtUtil;
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+import com.sparta.jwtservletfilter.util.TokenRevocationList;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticatorTest {
+
+    private static final String SECRET_KEY = "64VINcdUYUYwbnBLL1eitE+blNL+5cGOyk8V/Jg53nU=";
+    private static final String ROUTE_RULES = "/api/login=PUBLIC,/api/admin/**=ADMIN,/api/user/**=USER";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JwtUtil jwtUtil;
+    private TokenRevocationList tokenRevocationList;
+    private JwtAuthenticator authenticator;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "cacheEvictionPolicy", "EARLIEST_EXPIRY");
+        jwtUtil.init();
+        tokenRevocationList = new TokenRevocationList(new InMemoryRevocationStore(), 100, 0.01, System::currentTimeMillis);
+        authenticator = new JwtAuthenticator(jwtUtil, new RoutePolicyRegistry(ROUTE_RULES, RoleHierarchy.none()),
+                tokenRevocationList, new AuthMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwtUtil.destroy();
+    }
+
+    @Test
+    void publicPathProceedsWithoutToken() {
+        AuthDecision decision = authenticator.authenticate("/api/login", null);
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.PUBLIC);
+        assertThat(decision.proceeds()).isTrue();
+        assertThat(decision.principal()).isNull();
+    }
+
+    @Test
+    void missingOrNonBearerHeaderIsRejected() {
+        assertThat(authenticator.authenticate("/api/user/get", null).outcome()).isEqualTo(Outcome.MISSING_TOKEN);
+
+        AuthDecision decision = authenticator.authenticate("/api/user/get", "Basic dXNlcjpwYXNz");
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.MISSING_TOKEN);
+        assertThat(decision.status()).isEqualTo(401);
+        assertThat(decision.proceeds()).isFalse();
+    }
+
+    @Test
+    void expiredTokenIsRejectedWithExpiredMessage() {
+        String expired = Jwts.builder()
+                .setSubject("이순신")
+                .setId(UUID.randomUUID().toString())
+                .claim("auth", UserRoleEnum.USER.mask())
+                .setExpiration(new Date(System.currentTimeMillis() - 60_000))
+                .signWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET_KEY)), SignatureAlgorithm.HS256)
+                .compact();
+
+        AuthDecision decision = authenticator.authenticate("/api/user/get", JwtUtil.BEARER_PREFIX + expired);
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.INVALID_TOKEN);
+        assertThat(decision.status()).isEqualTo(401);
+        assertThat(decision.message()).contains("만료된");
+    }
+
+    @Test
+    void tamperedTokenIsRejectedAsInvalid() {
+        String bearer = jwtUtil.generateToken("이순신", UserRoleEnum.USER);
+        String tampered = bearer.substring(0, bearer.length() - 10) + "AAAAAAAAAA";
+
+        AuthDecision decision = authenticator.authenticate("/api/user/get", tampered);
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.INVALID_TOKEN);
+        assertThat(decision.message()).contains("유효하지 않은");
+    }
+
+    @Test
+    void revokedTokenIsRejected() {
+        String bearer = jwtUtil.generateToken("이순신", UserRoleEnum.USER);
+        tokenRevocationList.revoke(jwtUtil.parsePrincipal(bearer.substring(JwtUtil.BEARER_PREFIX.length())));
+
+        AuthDecision decision = authenticator.authenticate("/api/user/get", bearer);
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.REVOKED);
+        assertThat(decision.status()).isEqualTo(401);
+        assertThat(decision.principal().username()).isEqualTo("이순신");
+    }
+
+    @Test
+    void userTokenIsForbiddenOnAdminPath() {
+        AuthDecision decision = authenticator.authenticate("/api/admin/get",
+                jwtUtil.generateToken("이순신", UserRoleEnum.USER));
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.FORBIDDEN);
+        assertThat(decision.status()).isEqualTo(403);
+        assertThat(decision.proceeds()).isFalse();
+    }
+
+    @Test
+    void validTokenWithRoleIsAcceptedAndRecorded() {
+        AuthDecision decision = authenticator.authenticate("/api/user/get",
+                jwtUtil.generateToken("이순신", UserRoleEnum.USER));
+
+        assertThat(decision.outcome()).isEqualTo(Outcome.ACCEPTED);
+        assertThat(decision.proceeds()).isTrue();
+        assertThat(decision.principal().username()).isEqualTo("이순신");
+        assertThat(meterRegistry.get("jwt.filter").tag("outcome", "accepted").timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.jwtservletfilter.filter;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.util.RoleHierarchy;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteAuthorizationTableTest {
+
+    private final RoleHierarchy hierarchy = RoleHierarchy.none();
+    private final RouteAuthorizationTable table = RouteAuthorizationTable.builder(hierarchy)
+            .addAll("/api/login=PUBLIC,/api/admin/**=ADMIN,/api/user/**=USER")
+            .add("/api/user/{id}/public", RoutePolicy.PUBLIC)
+            .add("/api/admin/reports", RoutePolicy.DENY)
+            .build();
+
+    @Test
+    void resolvesExactPublicPath() {
+        assertThat(table.resolve("/api/login")).isEqualTo(RoutePolicy.PUBLIC);
+        assertThat(table.resolve("/api/login/extra")).isEqualTo(RoutePolicy.DENY);
+    }
+
+    @Test
+    void resolvesDeepestPrefix() {
+        assertThat(table.resolve("/api/admin")).isEqualTo(RoutePolicy.requires(UserRoleEnum.ADMIN, hierarchy));
+        assertThat(table.resolve("/api/admin/get")).isEqualTo(RoutePolicy.requires(UserRoleEnum.ADMIN, hierarchy));
+        assertThat(table.resolve("/api/user/get")).isEqualTo(RoutePolicy.requires(UserRoleEnum.USER, hierarchy));
+    }
+
+    @Test
+    void exactRuleOverridesPrefix() {
+        assertThat(table.resolve("/api/admin/reports")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user/42/public")).isEqualTo(RoutePolicy.PUBLIC);
+    }
+
+    @Test
+    void segmentsMustMatchWhole() {
+        assertThat(table.resolve("/api/administrator")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/other")).isEqualTo(RoutePolicy.DENY);
+    }
+
+    @Test
+    void traversalAndPathParameterSegmentsAreDenied() {
+        assertThat(table.resolve("/api/user/..;/admin/get")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user/../admin/get")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user/./get")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user/get;jsessionid=1")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user/%2e%2e/admin/get")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user%2Fadmin/get")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/user/..\\admin/get")).isEqualTo(RoutePolicy.DENY);
+        assertThat(table.resolve("/api/login/..")).isEqualTo(RoutePolicy.DENY);
+    }
+
+    @Test
+    void detectsUnsafeSegmentsWithoutRejectingOrdinaryDots() {
+        assertThat(RouteAuthorizationTable.hasUnsafeSegment("/api/user/..;/admin/get")).isTrue();
+        assertThat(RouteAuthorizationTable.hasUnsafeSegment("/api/user/%2")).isTrue();
+        assertThat(RouteAuthorizationTable.hasUnsafeSegment("/api/user/get")).isFalse();
+        assertThat(RouteAuthorizationTable.hasUnsafeSegment("/api/user/v1.2/file.txt")).isFalse();
+        assertThat(RouteAuthorizationTable.hasUnsafeSegment("/api/user/%41")).isFalse();
+    }
+
+    @Test
+    void roleHierarchyIsResolvedIntoPolicyMask() {
+        RouteAuthorizationTable hierarchical = RouteAuthorizationTable.builder(new RoleHierarchy("ADMIN>USER"))
+                .addAll("/api/user/**=USER")
+                .build();
+        JwtPrincipal admin = new JwtPrincipal("admin", UserRoleEnum.ADMIN.mask(), Instant.MAX, null);
+
+        assertThat(hierarchical.resolve("/api/user/get").permits(admin)).isTrue();
+        assertThat(table.resolve("/api/user/get").permits(admin)).isFalse();
+    }
+}
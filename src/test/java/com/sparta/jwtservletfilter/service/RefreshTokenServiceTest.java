@@ -0,0 +1,91 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.util.InMemoryRefreshTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RefreshTokenServiceTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+    private final RefreshTokenService service = new RefreshTokenService(store, new SimpleMeterRegistry(), 60_000, now::get);
+
+    @Test
+    void rotatesToNewToken() {
+        String first = service.issue("이순신");
+
+        RefreshTokenService.Rotation rotation = service.rotate(first);
+
+        assertThat(rotation.username()).isEqualTo("이순신");
+        assertThat(rotation.refreshToken()).isNotEqualTo(first);
+        assertThat(service.rotate(rotation.refreshToken()).username()).isEqualTo("이순신");
+    }
+
+    @Test
+    void reuseRevokesWholeFamily() {
+        String first = service.issue("이순신");
+        String second = service.rotate(first).refreshToken();
+
+        assertThatThrownBy(() -> service.rotate(first)).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> service.rotate(second)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void rejectsExpiredAndUnknownTokens() {
+        String token = service.issue("이순신");
+        now.addAndGet(60_000);
+
+        assertThatThrownBy(() -> service.rotate(token)).isInstanceOf(ResponseStatusException.class);
+        assertThatThrownBy(() -> service.rotate("unknown")).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void nodesSharingStoreCanRotateEachOthersTokens() {
+        RefreshTokenService otherNode = new RefreshTokenService(store, new SimpleMeterRegistry(), 60_000, now::get);
+        String first = service.issue("이순신");
+
+        String second = otherNode.rotate(first).refreshToken();
+
+        assertThat(service.rotate(second).username()).isEqualTo("이순신");
+    }
+
+    @Test
+    void logoutRevokesOnlyOwnLatestToken() {
+        String token = service.issue("이순신");
+        String familyId = token.substring(0, token.indexOf('.'));
+
+        assertThat(service.revoke(principal("원균"), token)).isFalse();
+        assertThat(service.revoke(principal("이순신"), familyId + ".guessed")).isFalse();
+        String next = service.rotate(token).refreshToken();
+
+        assertThat(service.revoke(principal("이순신"), next)).isTrue();
+        assertThatThrownBy(() -> service.rotate(next)).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void rotationKeepsOneEntryPerFamily() {
+        String token = service.issue("이순신");
+        for (int i = 0; i < 100; i++) {
+            token = service.rotate(token).refreshToken();
+        }
+        assertThat(store.size()).isEqualTo(1);
+
+        now.addAndGet(60_000);
+        service.purgeExpired();
+
+        assertThat(store.size()).isZero();
+    }
+
+    private static JwtPrincipal principal(String username) {
+        return new JwtPrincipal(username, UserRoleEnum.USER.mask(), Instant.MAX, null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.jwtservletfilter.service;
+
+import com.sparta.jwtservletfilter.dto.UserCredential;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import com.sparta.jwtservletfilter.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCredentialCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserCredentialCache cache = new UserCredentialCache(userRepository, new SimpleMeterRegistry(), true, 100, 60_000, 5_000);
+
+    @Test
+    void nullOrBlankUsernameIsEmptyWithoutLookup() {
+        assertThat(cache.find(null)).isEmpty();
+        assertThat(cache.find("")).isEmpty();
+        assertThat(cache.find("   ")).isEmpty();
+
+        verify(userRepository, never()).findCredentialByUsername(any());
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void cachesExistingUser() {
+        UserCredential user = new UserCredential(1L, "이순신", "{bcrypt}hash", UserRoleEnum.USER);
+        when(userRepository.findCredentialByUsername("이순신")).thenReturn(Optional.of(user));
+
+        assertThat(cache.find("이순신")).contains(user);
+        assertThat(cache.find("이순신")).contains(user);
+
+        verify(userRepository, times(1)).findCredentialByUsername("이순신");
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000L);
+
+    @Test
+    void entryExpiresAtItsOwnDeadline() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, EvictionPolicy.EARLIEST_EXPIRY, now::get);
+        cache.put("a", "A", 2_000L);
+
+        assertThat(cache.get("a")).isEqualTo("A");
+        now.set(2_000L);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void alreadyExpiredValueIsNotStored() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(10, EvictionPolicy.EARLIEST_EXPIRY, now::get);
+        cache.put("a", "A", 500L);
+
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void overflowEvictsByPolicyOrder() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, EvictionPolicy.EARLIEST_EXPIRY, now::get);
+        cache.put("late", "L", 9_000L);
+        cache.put("soon", "S", 3_000L);
+        cache.put("mid", "M", 5_000L);
+
+        assertThat(cache.get("soon")).isNull();
+        assertThat(cache.get("late")).isEqualTo("L");
+        assertThat(cache.get("mid")).isEqualTo("M");
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedKeepsRecentlyReadEntries() {
+        ExpiringCache<String, String> cache = new ExpiringCache<>(2, EvictionPolicy.LEAST_RECENTLY_USED, now::get);
+        cache.put("a", "A", 9_000L);
+        now.incrementAndGet();
+        cache.put("b", "B", 9_000L);
+        now.incrementAndGet();
+        cache.get("a");
+        now.incrementAndGet();
+        cache.put("c", "C", 9_000L);
+
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("c")).isEqualTo("C");
+    }
+}
@@ -0,0 +1,118 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Hs256FastVerifierTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final long NOW = 1_724_751_882_000L;
+
+    private final Key key = Keys.hmacShaKeyFor(SECRET);
+    private final Hs256FastVerifier verifier = new Hs256FastVerifier(SECRET, () -> NOW);
+
+    @Test
+    void verifiesTokenIssuedLikeJwtUtil() {
+        String token = issued("이순신", UserRoleEnum.USER, NOW + 60_000).compact();
+
+        JwtPrincipal principal = verifier.verify(token);
+
+        assertThat(principal).isNotNull();
+        assertThat(principal.username()).isEqualTo("이순신");
+        assertThat(principal.roles()).containsExactly(UserRoleEnum.USER);
+        assertThat(principal.expiration().getEpochSecond()).isEqualTo((NOW + 60_000) / 1000);
+        assertThat(principal.tokenId()).isEqualTo("jti-1");
+    }
+
+    @Test
+    void decodesEscapedSubject() {
+        String token = issued("a\"b\\c", UserRoleEnum.ADMIN, NOW + 60_000).compact();
+
+        assertThat(verifier.verify(token).username()).isEqualTo("a\"b\\c");
+    }
+
+    @Test
+    void readsLegacyRoleNameClaim() {
+        String token = issued("이순신", UserRoleEnum.USER, NOW + 60_000).claim("auth", "USER,ADMIN").compact();
+
+        assertThat(verifier.verify(token).roles()).containsExactlyInAnyOrder(UserRoleEnum.USER, UserRoleEnum.ADMIN);
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = issued("이순신", UserRoleEnum.USER, NOW + 60_000).compact();
+        int i = token.length() - 10;
+        String tampered = token.substring(0, i) + (token.charAt(i) == 'A' ? 'B' : 'A') + token.substring(i + 1);
+
+        assertThat(verifier.verify(tampered)).isNull();
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = issued("이순신", UserRoleEnum.USER, NOW - 1_000).compact();
+
+        assertThat(verifier.verify(token)).isNull();
+    }
+
+    @Test
+    void fallsBackOnUnknownClaim() {
+        String token = issued("이순신", UserRoleEnum.USER, NOW + 60_000).claim("scope", "x").compact();
+
+        assertThat(verifier.verify(token)).isNull();
+    }
+
+    @Test
+    void fallsBackOnDifferentHeader() {
+        String token = issued("이순신", UserRoleEnum.USER, NOW + 60_000).setHeaderParam("typ", "JWT").compact();
+
+        assertThat(verifier.verify(token)).isNull();
+    }
+
+    @Test
+    void verifiesKidSignedTokenFromKeyRing(@TempDir Path dir) throws IOException {
+        byte[] rotated = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.US_ASCII);
+        Path file = dir.resolve("keys.properties");
+        Files.writeString(file, "active=k2\nkey.k2=" + Base64.getEncoder().encodeToString(rotated) + "\n");
+        SigningKeyRing ring = SigningKeyRing.load(file, SECRET);
+        Hs256FastVerifier ringVerifier = new Hs256FastVerifier(ring);
+
+        String current = issued("이순신", UserRoleEnum.USER, System.currentTimeMillis() + 60_000)
+                .setHeaderParam("kid", "k2")
+                .signWith(ring.signingKey(), SignatureAlgorithm.HS256)
+                .compact();
+        String legacy = issued("이순신", UserRoleEnum.USER, System.currentTimeMillis() + 60_000).compact();
+        String unknownKid = issued("이순신", UserRoleEnum.USER, System.currentTimeMillis() + 60_000)
+                .setHeaderParam("kid", "k1")
+                .compact();
+
+        assertThat(ringVerifier.verify(current)).isNotNull();
+        assertThat(ringVerifier.verify(legacy)).isNotNull();
+        assertThat(ringVerifier.verify(unknownKid)).isNull();
+    }
+
+    private JwtBuilder issued(String username, UserRoleEnum role, long expiresAt) {
+        return Jwts.builder()
+                .setSubject(username)
+                .setId("jti-1")
+                .claim("auth", role.mask())
+                .setExpiration(new Date(expiresAt))
+                .setIssuedAt(new Date(NOW))
+                .signWith(key, SignatureAlgorithm.HS256);
+    }
+}
@@ -0,0 +1,94 @@
+package com.sparta.jwtservletfilter.util;
+
+import com.sparta.jwtservletfilter.dto.JwtPrincipal;
+import com.sparta.jwtservletfilter.entity.UserRoleEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilKeyRingTest {
+
+    private static final String SECRET_KEY = "64VINcdUYUYwbnBLL1eitE+blNL+5cGOyk8V/Jg53nU=";
+
+    @TempDir
+    Path dir;
+
+    private final List<JwtUtil> created = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        created.forEach(JwtUtil::destroy);
+    }
+
+    @Test
+    void verifyOnlyNodeAcceptsEs256TokensButCannotIssue() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair pair = generator.generateKeyPair();
+        String publicKey = Base64.getEncoder().encodeToString(pair.getPublic().getEncoded());
+        String privateKey = Base64.getEncoder().encodeToString(pair.getPrivate().getEncoded());
+
+        JwtUtil issuer = jwtUtil(write("issuer.properties",
+                "active=ec1\nkey.ec1.public=" + publicKey + "\nkey.ec1.private=" + privateKey + "\n"), SECRET_KEY);
+        JwtUtil verifier = jwtUtil(write("verifier.properties",
+                "key.ec1.public=" + publicKey + "\n"), "");
+
+        String token = issuer.generateToken("이순신", UserRoleEnum.USER).substring(JwtUtil.BEARER_PREFIX.length());
+        JwtPrincipal principal = verifier.parsePrincipal(token);
+
+        assertThat(principal).isNotNull();
+        assertThat(principal.username()).isEqualTo("이순신");
+        assertThatThrownBy(() -> verifier.generateToken("이순신", UserRoleEnum.USER))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void tokensSignedWithPreviousKeyStillVerifyAfterRotation() throws IOException {
+        String k1 = "a2V5LW9uZS1rZXktb25lLWtleS1vbmUta2V5LW9uZSE=";
+        String k2 = "a2V5LXR3by1rZXktdHdvLWtleS10d28ta2V5LXR3byE=";
+        Path file = write("keys.properties", "active=k1\nkey.k1=" + k1 + "\n");
+        JwtUtil jwtUtil = jwtUtil(file, SECRET_KEY);
+        String before = jwtUtil.generateToken("이순신", UserRoleEnum.USER).substring(JwtUtil.BEARER_PREFIX.length());
+
+        Files.writeString(file, "active=k2\nkey.k1=" + k1 + "\nkey.k2=" + k2 + "\n");
+        jwtUtil.reloadKeyRing();
+        String after = jwtUtil.generateToken("이순신", UserRoleEnum.USER).substring(JwtUtil.BEARER_PREFIX.length());
+
+        assertThat(jwtUtil.parsePrincipal(before)).isNotNull();
+        assertThat(jwtUtil.parsePrincipal(after)).isNotNull();
+
+        Files.writeString(file, "active=k2\nkey.k2=" + k2 + "\n");
+        jwtUtil.reloadKeyRing();
+        assertThat(jwtUtil.parsePrincipal(before)).isNull();
+    }
+
+    private Path write(String name, String content) throws IOException {
+        Path file = dir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private JwtUtil jwtUtil(Path keyRing, String secretKey) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", secretKey);
+        ReflectionTestUtils.setField(jwtUtil, "keyRingLocation", keyRing.toString());
+        ReflectionTestUtils.setField(jwtUtil, "cacheEvictionPolicy", "EARLIEST_EXPIRY");
+        jwtUtil.init();
+        created.add(jwtUtil);
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordEncoderTest {
+
+    @Test
+    void encodesWithConfiguredCost() {
+        PasswordEncoder encoder = new PasswordEncoder(5);
+
+        String encoded = encoder.encode("1234");
+
+        assertThat(PasswordEncoder.costOf(encoded)).isEqualTo(5);
+        assertThat(encoder.matches("1234", encoded)).isTrue();
+        assertThat(encoder.needsRehash(encoded)).isFalse();
+    }
+
+    @Test
+    void detectsHashAtDifferentCost() {
+        String encoded = new PasswordEncoder(4).encode("1234");
+
+        assertThat(new PasswordEncoder(6).needsRehash(encoded)).isTrue();
+    }
+
+    @Test
+    void ignoresUnknownHashFormat() {
+        assertThat(new PasswordEncoder(4).needsRehash("plain-text")).isFalse();
+    }
+
+    @Test
+    void rejectsOutOfRangeCost() {
+        assertThatThrownBy(() -> new PasswordEncoder(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlTimingRecorderTest {
+
+    @Test
+    void shapeKeepsStatementKindAndFirstTable() {
+        assertThat(SqlTimingRecorder.shapeOf("select u1_0.id,u1_0.password from users u1_0 where u1_0.username=?"))
+                .isEqualTo("select users");
+        assertThat(SqlTimingRecorder.shapeOf("insert into users (password,role,username) values (?,?,?)"))
+                .isEqualTo("insert users");
+        assertThat(SqlTimingRecorder.shapeOf("update users set password=? where id=?"))
+                .isEqualTo("update users");
+        assertThat(SqlTimingRecorder.shapeOf("delete from users where id=?"))
+                .isEqualTo("delete users");
+    }
+
+    @Test
+    void shapeIgnoresBoundValuesAndCase() {
+        assertThat(SqlTimingRecorder.shapeOf("SELECT * FROM users WHERE username='이순신'"))
+                .isEqualTo(SqlTimingRecorder.shapeOf("select * from users where username='홍길동'"));
+    }
+
+    @Test
+    void ddlAndUnknownStatementsShareShapes() {
+        assertThat(SqlTimingRecorder.shapeOf("create table users (id bigint not null)")).isEqualTo("ddl");
+        assertThat(SqlTimingRecorder.shapeOf("drop table if exists users")).isEqualTo("ddl");
+        assertThat(SqlTimingRecorder.shapeOf("call next value for users_seq")).isEqualTo("other");
+        assertThat(SqlTimingRecorder.shapeOf("  ")).isEqualTo("other");
+    }
+}
@@ -0,0 +1,87 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTableTest {
+
+    private final AtomicLong now = new AtomicLong(1_724_751_882_000L);
+    private final TokenBucketTable table = new TokenBucketTable(1024, 3, 1_000, now::get);
+
+    @Test
+    void allowsBurstThenRejectsUntilRefill() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(table.tryAcquire("10.0.0.1")).isZero();
+        }
+        assertThat(table.tryAcquire("10.0.0.1")).isEqualTo(1_000);
+
+        now.addAndGet(1_000);
+
+        assertThat(table.tryAcquire("10.0.0.1")).isZero();
+        assertThat(table.tryAcquire("10.0.0.1")).isPositive();
+    }
+
+    @Test
+    void keysDoNotShareBudget() {
+        for (int i = 0; i < 3; i++) {
+            table.tryAcquire("10.0.0.1");
+        }
+
+        assertThat(table.tryAcquire("10.0.0.2")).isZero();
+    }
+
+    @Test
+    void memoryStaysBoundedForManyKeys() {
+        for (int i = 0; i < 100_000; i++) {
+            table.tryAcquire("user-" + i);
+        }
+
+        // 슬롯이 1024 개뿐이어도, 가득 충전된 슬롯은 새 키가 차지하므로 허용됩니다.
+        now.addAndGet(3_000);
+        assertThat(table.tryAcquire("someone-new")).isZero();
+    }
+
+    @Test
+    void concurrentAttemptsNeverExceedBurst() throws Exception {
+        int threads = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // 경합 구간이 짧으므로 여러 번 반복합니다.
+            for (int round = 0; round < 200; round++) {
+                TokenBucketTable usernameTable = new TokenBucketTable(1024, 5, 12_000, now::get);
+                CountDownLatch start = new CountDownLatch(1);
+                AtomicInteger allowed = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        for (int i = 0; i < 50; i++) {
+                            if (usernameTable.tryAcquire("이순신") == 0) {
+                                allowed.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                assertThat(allowed.get()).isEqualTo(5);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
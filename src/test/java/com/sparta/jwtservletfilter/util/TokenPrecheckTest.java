@@ -0,0 +1,64 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenPrecheckTest {
+
+    private static final long NOW = 1_724_751_882_000L;
+    private static final String HEADER = segment("{\"alg\":\"HS256\"}");
+    private static final String SIGNATURE = "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+
+    @Test
+    void passesWellFormedUnexpiredToken() {
+        assertThat(TokenPrecheck.check(token("{\"sub\":\"a\",\"exp\":" + (NOW / 1000 + 60) + "}"), NOW)).isNull();
+    }
+
+    @Test
+    void rejectsExpiredTokenBeforeSignatureCheck() {
+        assertThat(TokenPrecheck.check(token("{\"sub\":\"a\",\"exp\":" + (NOW / 1000 - 1) + "}"), NOW))
+                .isEqualTo(TokenRejectReason.EXPIRED);
+    }
+
+    @Test
+    void ignoresExpInsideStringValue() {
+        assertThat(TokenPrecheck.check(token("{\"sub\":\"\\\"exp\\\":1\"}"), NOW)).isNull();
+    }
+
+    @Test
+    void rejectsWrongSegmentCount() {
+        assertThat(TokenPrecheck.check("abc", NOW)).isEqualTo(TokenRejectReason.MALFORMED);
+        assertThat(TokenPrecheck.check("a.b.c.d", NOW)).isEqualTo(TokenRejectReason.MALFORMED);
+        assertThat(TokenPrecheck.check(HEADER + "..sig", NOW)).isEqualTo(TokenRejectReason.MALFORMED);
+    }
+
+    @Test
+    void rejectsNonBase64UrlCharacters() {
+        assertThat(TokenPrecheck.check(HEADER + ".e30$." + SIGNATURE, NOW)).isEqualTo(TokenRejectReason.MALFORMED);
+    }
+
+    @Test
+    void rejectsOversizedTokenAndHeader() {
+        assertThat(TokenPrecheck.check("a".repeat(TokenPrecheck.MAX_TOKEN_LENGTH + 1), NOW))
+                .isEqualTo(TokenRejectReason.OVERSIZED);
+        assertThat(TokenPrecheck.check("a".repeat(TokenPrecheck.MAX_HEADER_SEGMENT_LENGTH + 4) + ".e30." + SIGNATURE, NOW))
+                .isEqualTo(TokenRejectReason.OVERSIZED);
+    }
+
+    @Test
+    void rejectsUnsignedToken() {
+        assertThat(TokenPrecheck.check(HEADER + ".e30.", NOW)).isEqualTo(TokenRejectReason.UNSUPPORTED);
+    }
+
+    private static String token(String payload) {
+        return HEADER + "." + segment(payload) + "." + SIGNATURE;
+    }
+
+    private static String segment(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
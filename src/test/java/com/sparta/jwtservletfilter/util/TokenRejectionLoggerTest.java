@@ -0,0 +1,24 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRejectionLoggerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final TokenRejectionLogger logger = new TokenRejectionLogger(10_000, now::get);
+
+    @Test
+    void logsOncePerReasonPerInterval() {
+        assertThat(logger.reject(TokenRejectReason.EXPIRED, new IllegalStateException("expired"))).isTrue();
+        assertThat(logger.reject(TokenRejectReason.EXPIRED, new IllegalStateException("expired"))).isFalse();
+        assertThat(logger.reject(TokenRejectReason.MALFORMED, new IllegalStateException("malformed"))).isTrue();
+
+        now.addAndGet(10_000);
+
+        assertThat(logger.reject(TokenRejectReason.EXPIRED, new IllegalStateException("expired"))).isTrue();
+    }
+}
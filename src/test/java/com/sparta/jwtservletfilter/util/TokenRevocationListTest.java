@@ -0,0 +1,53 @@
+package com.sparta.jwtservletfilter.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationListTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final InMemoryRevocationStore store = new InMemoryRevocationStore();
+
+    @Test
+    void revokedTokenIsRejectedUntilRebuildAfterExpiry() {
+        TokenRevocationList list = new TokenRevocationList(store, 100, 0.01, now::get);
+
+        list.revoke("jti-1", Instant.ofEpochMilli(now.get() + 60_000));
+
+        assertThat(list.isRevoked("jti-1")).isTrue();
+        assertThat(list.isRevoked("jti-2")).isFalse();
+        assertThat(list.isRevoked(null)).isFalse();
+
+        now.addAndGet(60_001);
+        list.rebuild();
+        assertThat(list.isRevoked("jti-1")).isFalse();
+        assertThat(list.size()).isZero();
+    }
+
+    @Test
+    void revocationIsSharedThroughStore() {
+        TokenRevocationList nodeA = new TokenRevocationList(store, 100, 0.01, now::get);
+        nodeA.revoke("jti-1", Instant.ofEpochMilli(now.get() + 60_000));
+
+        TokenRevocationList nodeB = new TokenRevocationList(store, 100, 0.01, now::get); // 기동 시 기존 목록 로드
+        nodeA.revoke("jti-2", Instant.ofEpochMilli(now.get() + 60_000)); // 구독으로 전달
+
+        assertThat(nodeB.isRevoked("jti-1")).isTrue();
+        assertThat(nodeB.isRevoked("jti-2")).isTrue();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("token-" + i);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(filter.mightContain("token-" + i)).isTrue();
+        }
+    }
+}